@@ -0,0 +1,386 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 21:26:54
+ */
+
+package com.software.shell.viewmover.movers;
+
+import android.content.Context;
+import android.view.View;
+import android.widget.FrameLayout;
+import com.software.shell.viewmover.benchmark.BuildConfig;
+import com.software.shell.viewmover.configuration.MovingParams;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Head-to-head benchmarks of the move backends
+ * <p>
+ * Every backend runs the same move script: each view of a container is moved forward and
+ * back on the alternate iterations, and the frames are driven by the {@link FrameDriver}
+ * until the moves complete. Before the results are reported, every backend is checked to have
+ * completed all its moves and to have moved the views to the same positions. The benchmarks report
+ * the number of moves per second, the CPU time, the number of bytes allocated and the number of
+ * layout passes per move
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class BackendBenchmark {
+
+	/**
+	 * Numbers of the views in the container the benchmarks are run with
+	 */
+	private static final int[] VIEW_COUNTS = {1, 16, 128};
+
+	/**
+	 * Size of the container in px
+	 */
+	private static final int CONTAINER_SIZE = 2048;
+
+	/**
+	 * Size of the moved views in px
+	 */
+	private static final int VIEW_SIZE = 48;
+
+	/**
+	 * Duration of the scripted moves in ms
+	 */
+	private static final long MOVE_DURATION = 48L;
+
+	/**
+	 * Time in ms the scheduler is advanced by before the positions of the views are checked,
+	 * so the backends, which write the view position after a delay, finish writing it
+	 */
+	private static final long SETTLE_TIME = 256L;
+
+	/**
+	 * Maximum difference between the expected and the actual position of the view in px
+	 */
+	private static final float POSITION_TOLERANCE = 0.01f;
+
+	/**
+	 * Report of the benchmark suite
+	 */
+	private static final BenchmarkReport REPORT = new BenchmarkReport("backends");
+
+	/**
+	 * Driver of the frames of the moves
+	 */
+	private final FrameDriver frameDriver = new FrameDriver();
+
+	/**
+	 * Flag indicating whether the views of the script are moved forward from their
+	 * initial positions
+	 */
+	private boolean movedForward;
+
+	/**
+	 * Factory of the view movers under benchmark
+	 */
+	private interface MoverFactory {
+
+		/**
+		 * Creates the view mover
+		 *
+		 * @param view view to be moved
+		 * @return view mover
+		 */
+		ViewMover create(View view);
+
+	}
+
+	@AfterClass
+	public static void publishReport() throws IOException {
+		REPORT.publish();
+	}
+
+	@Test
+	public void animation() {
+		benchmark("animation", engine(MoveEngine.ANIMATION));
+	}
+
+	@Test
+	public void valueAnimator() {
+		benchmark("valueAnimator", engine(MoveEngine.VALUE_ANIMATOR));
+	}
+
+	@Test
+	public void renderThread() {
+		benchmark("renderThread", engine(MoveEngine.RENDER_THREAD));
+	}
+
+	@Test
+	public void frameCallback() {
+		benchmark("frameCallback", engine(MoveEngine.FRAME_CALLBACK));
+	}
+
+	/**
+	 * Benchmarks the margin based backend, which the {@link MoveEngine#ANIMATION} engine
+	 * uses prior to {@link android.os.Build.VERSION_CODES#JELLY_BEAN}
+	 */
+	@Test
+	public void margin() {
+		benchmark("margin", new MoverFactory() {
+			@Override
+			public ViewMover create(View view) {
+				return new MarginViewMover(view);
+			}
+		});
+	}
+
+	/**
+	 * Benchmarks the backend, which the {@link MoveEngine#LAYOUT_OFFSET} engine uses prior
+	 * to {@link android.os.Build.VERSION_CODES#JELLY_BEAN}
+	 */
+	@Test
+	public void layoutOffset() {
+		benchmark("layoutOffset", new MoverFactory() {
+			@Override
+			public ViewMover create(View view) {
+				return new OffsetMarginViewMover(view);
+			}
+		});
+	}
+
+	/**
+	 * Creates the factory of the movers, which use the engine
+	 *
+	 * @param engine engine to be used to move the views
+	 * @return factory of the movers
+	 */
+	private static MoverFactory engine(final MoveEngine engine) {
+		return new MoverFactory() {
+			@Override
+			public ViewMover create(View view) {
+				return ViewMoverFactory.createInstance(view, engine);
+			}
+		};
+	}
+
+	/**
+	 * Runs the move script through the movers created by the factory for every view count
+	 *
+	 * @param name name of the backend
+	 * @param factory factory of the movers
+	 */
+	private void benchmark(String name, MoverFactory factory) {
+		Context context = RuntimeEnvironment.application;
+		MovingParams forward = new MovingParams(context, 1.0f, 1.0f, MOVE_DURATION);
+		MovingParams backward = new MovingParams(context, -1.0f, -1.0f, MOVE_DURATION);
+		for (int viewCount : VIEW_COUNTS) {
+			MoveStats stats = new MoveStats();
+			movedForward = false;
+			ViewMover[] movers = createMovers(context, factory, viewCount, stats);
+			String benchmarkName = String.format("%s.script[%s]", name, viewCount);
+			BenchmarkResult result = benchmarkScript(benchmarkName, movers, stats, forward, backward);
+			verifyMovesCompleted(benchmarkName, stats.snapshot());
+			verifyEndPositions(benchmarkName, movers, forward, backward);
+			REPORT.add(result);
+		}
+	}
+
+	/**
+	 * Benchmarks the move script
+	 *
+	 * @param name name of the benchmark
+	 * @param movers movers of the views
+	 * @param stats stats the movers record to
+	 * @param forward moving params, which move the views forward from their initial positions
+	 * @param backward moving params, which return the views back
+	 * @return benchmark result
+	 */
+	private BenchmarkResult benchmarkScript(String name, final ViewMover[] movers, MoveStats stats,
+	                                        final MovingParams forward, final MovingParams backward) {
+		return BenchmarkRunner.run(name, movers.length, new BenchmarkRunner.Operation() {
+			@Override
+			public void run(int iteration) {
+				runStep(movers, forward, backward);
+			}
+		}, stats);
+	}
+
+	/**
+	 * Runs one step of the move script: moves the views forward or back and drives
+	 * the frames until the moves complete
+	 *
+	 * @param movers movers of the views
+	 * @param forward moving params, which move the views forward from their initial positions
+	 * @param backward moving params, which return the views back
+	 */
+	private void runStep(ViewMover[] movers, MovingParams forward, MovingParams backward) {
+		MovingParams params = movedForward ? backward : forward;
+		for (ViewMover mover : movers) {
+			mover.move(params);
+		}
+		frameDriver.runFrames(movers, MOVE_DURATION);
+		movedForward = !movedForward;
+	}
+
+	/**
+	 * Checks that every move of the benchmark was started and completed, so the backend
+	 * did the whole work of the move script
+	 *
+	 * @param name name of the benchmark
+	 * @param snapshot stats of the measured moves
+	 */
+	private static void verifyMovesCompleted(String name, MoveStats.Snapshot snapshot) {
+		assertTrue(name + ": no moves were started", snapshot.getMovesStarted() > 0L);
+		assertEquals(name + ": not all the moves completed", snapshot.getMovesStarted(), snapshot.getMovesCompleted());
+		assertEquals(name + ": moves were cancelled", 0L, snapshot.getMovesCancelled());
+	}
+
+	/**
+	 * Checks that every view is at its expected position after the script, then runs
+	 * two more steps of the script and checks the positions after each of them
+	 * <p>
+	 * The expected positions are calculated from the layout of the views, so all
+	 * the backends are checked against the same positions
+	 *
+	 * @param name name of the benchmark
+	 * @param movers movers of the views
+	 * @param forward moving params, which move the views forward from their initial positions
+	 * @param backward moving params, which return the views back
+	 */
+	private void verifyEndPositions(String name, ViewMover[] movers, MovingParams forward, MovingParams backward) {
+		verifyPositions(name, movers, forward);
+		runStep(movers, forward, backward);
+		verifyPositions(name, movers, forward);
+		runStep(movers, forward, backward);
+		verifyPositions(name, movers, forward);
+	}
+
+	/**
+	 * Lets the backends finish writing the view positions and checks that every view is
+	 * at its initial position, or moved forward from it if the script left it moved forward
+	 *
+	 * @param name name of the benchmark
+	 * @param movers movers of the views
+	 * @param forward moving params, which move the views forward from their initial positions
+	 */
+	private void verifyPositions(String name, ViewMover[] movers, MovingParams forward) {
+		settle(movers);
+		int xOffset = movedForward ? (int) forward.getXAxisDelta() : 0;
+		int yOffset = movedForward ? (int) forward.getYAxisDelta() : 0;
+		for (int i = 0; i < movers.length; i++) {
+			verifyPosition(name, i, movers[i].getView(), xOffset, yOffset);
+		}
+	}
+
+	/**
+	 * Lets the backends finish writing the view positions and lays the container out
+	 *
+	 * @param movers movers of the views
+	 */
+	private void settle(ViewMover[] movers) {
+		frameDriver.runFrames(movers, SETTLE_TIME);
+		layout((FrameLayout) movers[0].getView().getParent());
+	}
+
+	/**
+	 * Checks that the view is at the position, which is offset from its position in the
+	 * initial layout
+	 *
+	 * @param name name of the benchmark
+	 * @param index index of the view
+	 * @param view view
+	 * @param xOffset expected X offset in px
+	 * @param yOffset expected Y offset in px
+	 */
+	private static void verifyPosition(String name, int index, View view, float xOffset, float yOffset) {
+		String message = String.format("%s: unexpected position of the view %s", name, index);
+		assertEquals(message, getInitialLeft(index) + xOffset, view.getX(), POSITION_TOLERANCE);
+		assertEquals(message, getInitialTop(index) + yOffset, view.getY(), POSITION_TOLERANCE);
+	}
+
+	/**
+	 * Returns the left position of the view in the initial layout
+	 *
+	 * @param index index of the view
+	 * @return left position in px
+	 */
+	private static int getInitialLeft(int index) {
+		return VIEW_SIZE + (index % getColumnCount()) * VIEW_SIZE * 2;
+	}
+
+	/**
+	 * Returns the top position of the view in the initial layout
+	 *
+	 * @param index index of the view
+	 * @return top position in px
+	 */
+	private static int getInitialTop(int index) {
+		return VIEW_SIZE + (index / getColumnCount()) * VIEW_SIZE * 2;
+	}
+
+	/**
+	 * Returns the number of the view columns in the initial layout
+	 *
+	 * @return number of the columns
+	 */
+	private static int getColumnCount() {
+		return CONTAINER_SIZE / (VIEW_SIZE * 2);
+	}
+
+	/**
+	 * Measures and lays out the container
+	 *
+	 * @param container container of the views
+	 */
+	private static void layout(FrameLayout container) {
+		int measureSpec = View.MeasureSpec.makeMeasureSpec(CONTAINER_SIZE, View.MeasureSpec.EXACTLY);
+		container.measure(measureSpec, measureSpec);
+		container.layout(0, 0, CONTAINER_SIZE, CONTAINER_SIZE);
+	}
+
+	/**
+	 * Creates the container with the views laid out in a grid and the movers of the views
+	 *
+	 * @param context context the views are running in
+	 * @param factory factory of the movers
+	 * @param viewCount number of the views
+	 * @param stats stats the movers record to
+	 * @return movers of the views
+	 */
+	private ViewMover[] createMovers(Context context, MoverFactory factory, int viewCount, MoveStats stats) {
+		FrameLayout container = new FrameLayout(context);
+		ViewMover[] movers = new ViewMover[viewCount];
+		for (int i = 0; i < viewCount; i++) {
+			View view = new View(context);
+			FrameLayout.LayoutParams layoutParams = new FrameLayout.LayoutParams(VIEW_SIZE, VIEW_SIZE);
+			layoutParams.leftMargin = getInitialLeft(i);
+			layoutParams.topMargin = getInitialTop(i);
+			container.addView(view, layoutParams);
+			movers[i] = factory.create(view);
+			movers[i].setMoveStats(stats);
+		}
+		layout(container);
+		return movers;
+	}
+
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 15:18:05
+ */
+
+package com.software.shell.viewmover.movers;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Report of the benchmark suite
+ * <p>
+ * Writes the results into {@code <benchmark.resultsDir>/<suite>-<benchmark.version>.csv} and
+ * compares them with the baseline stored in {@code <benchmark.baselinesDir>/<suite>.csv}, if any.
+ * When the {@code benchmark.recordBaseline} system property is {@code true}, the results
+ * are written as the new baseline
+ * <p>
+ * The suite fails if any benchmark regressed against the baseline: if its throughput dropped or
+ * its CPU time grew by more than the {@code benchmark.maxRegression} percent, or if it allocates
+ * more per move. The regressions do not fail the suite, which records the new baseline
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+final class BenchmarkReport {
+
+	/**
+	 * Header of the CSV file
+	 */
+	private static final String CSV_HEADER = "name,movesPerSecond,bytesPerMove,cpuNanosPerMove,layoutPassesPerMove";
+
+	/**
+	 * Maximum throughput drop or CPU time growth in percent, which is not considered a regression,
+	 * if the {@code benchmark.maxRegression} system property is not set
+	 */
+	private static final double DEFAULT_MAX_REGRESSION = 20.0;
+
+	/**
+	 * Maximum growth of the number of bytes allocated per move, which is not considered
+	 * a regression. Every allocated object takes more, so a new allocation per move always exceeds it
+	 */
+	private static final double MAX_BYTES_PER_MOVE_GROWTH = 1.0;
+
+	/**
+	 * Name of the benchmark suite
+	 */
+	private final String suite;
+
+	/**
+	 * Results of the benchmarks
+	 */
+	private final List<BenchmarkResult> results = new ArrayList<BenchmarkResult>();
+
+	/**
+	 * Creates an instance of the {@link BenchmarkReport}
+	 *
+	 * @param suite name of the benchmark suite
+	 */
+	BenchmarkReport(String suite) {
+		this.suite = suite;
+	}
+
+	/**
+	 * Adds the benchmark result into the report
+	 *
+	 * @param result benchmark result
+	 */
+	void add(BenchmarkResult result) {
+		results.add(result);
+	}
+
+	/**
+	 * Writes the report and compares it with the baseline
+	 *
+	 * @throws IOException if the report can not be written or the baseline can not be read
+	 * @throws AssertionError if any benchmark regressed against the baseline, unless the new
+	 *         baseline is recorded
+	 */
+	void publish() throws IOException {
+		String version = System.getProperty("benchmark.version", "unspecified");
+		File resultsDir = new File(System.getProperty("benchmark.resultsDir", "build/benchmark-results"));
+		File baselinesDir = new File(System.getProperty("benchmark.baselinesDir", "baselines"));
+		File baseline = new File(baselinesDir, suite + ".csv");
+		write(new File(resultsDir, String.format("%s-%s.csv", suite, version)));
+		List<String> regressions = new ArrayList<String>();
+		if (baseline.isFile()) {
+			regressions = compare(read(baseline));
+		} else {
+			System.out.println(String.format("No baseline found for the '%s' suite at %s", suite, baseline));
+		}
+		if (Boolean.getBoolean("benchmark.recordBaseline")) {
+			write(baseline);
+			System.out.println(String.format("Baseline of the '%s' suite recorded at %s", suite, baseline));
+		} else if (!regressions.isEmpty()) {
+			StringBuilder message = new StringBuilder(String.format("The '%s' suite regressed against the baseline:",
+					suite));
+			for (String regression : regressions) {
+				message.append(System.getProperty("line.separator")).append(regression);
+			}
+			throw new AssertionError(message.toString());
+		}
+	}
+
+	/**
+	 * Writes the results into the CSV file
+	 *
+	 * @param file CSV file
+	 * @throws IOException if the file can not be written
+	 */
+	private void write(File file) throws IOException {
+		File dir = file.getParentFile();
+		if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+			throw new IOException("Unable to create the directory " + dir);
+		}
+		PrintWriter writer = new PrintWriter(new FileWriter(file));
+		try {
+			writer.println(CSV_HEADER);
+			for (BenchmarkResult result : results) {
+				writer.println(String.format(Locale.US, "%s,%.1f,%.2f,%.1f,%.4f", result.getName(),
+						result.getMovesPerSecond(), result.getBytesPerMove(), result.getCpuNanosPerMove(),
+						result.getLayoutPassesPerMove()));
+			}
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Reads the results from the CSV file
+	 * <p>
+	 * The baselines recorded before the CPU time and the layout passes were measured
+	 * are read with these values reported as not measured
+	 *
+	 * @param file CSV file
+	 * @return results mapped by the benchmark names
+	 * @throws IOException if the file can not be read
+	 */
+	private Map<String, BenchmarkResult> read(File file) throws IOException {
+		Map<String, BenchmarkResult> baseline = new LinkedHashMap<String, BenchmarkResult>();
+		BufferedReader reader = new BufferedReader(new FileReader(file));
+		try {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] values = line.split(",");
+				if ((values.length != 3 && values.length != 5) || line.startsWith("name,")) {
+					continue;
+				}
+				baseline.put(values[0], new BenchmarkResult(values[0], Double.parseDouble(values[1]),
+						Double.parseDouble(values[2]), values.length == 5 ? Double.parseDouble(values[3]) : -1.0,
+						values.length == 5 ? Double.parseDouble(values[4]) : -1.0));
+			}
+		} finally {
+			reader.close();
+		}
+		return baseline;
+	}
+
+	/**
+	 * Prints the difference between the results and the baseline and collects the regressions
+	 *
+	 * @param baseline baseline results mapped by the benchmark names
+	 * @return descriptions of the regressions, empty if there are none
+	 */
+	private List<String> compare(Map<String, BenchmarkResult> baseline) {
+		double maxRegression = getMaxRegression();
+		List<String> regressions = new ArrayList<String>();
+		System.out.println(String.format("Comparison of the '%s' suite with the baseline:", suite));
+		for (BenchmarkResult result : results) {
+			BenchmarkResult base = baseline.get(result.getName());
+			if (base == null) {
+				System.out.println(String.format("%-48s no baseline", result.getName()));
+				continue;
+			}
+			double throughputChange = (result.getMovesPerSecond() / base.getMovesPerSecond() - 1.0) * 100.0;
+			double cpuTimeChange = result.getCpuNanosPerMove() < 0.0 || base.getCpuNanosPerMove() <= 0.0 ? 0.0
+					: (result.getCpuNanosPerMove() / base.getCpuNanosPerMove() - 1.0) * 100.0;
+			double bytesPerMoveChange = result.getBytesPerMove() < 0.0 || base.getBytesPerMove() < 0.0 ? 0.0
+					: result.getBytesPerMove() - base.getBytesPerMove();
+			System.out.println(String.format(Locale.US, "%-48s %+7.1f%% moves/s %+10.1f bytes/move %+7.1f%% cpu ns/move",
+					result.getName(), throughputChange, bytesPerMoveChange, cpuTimeChange));
+			if (throughputChange < -maxRegression) {
+				regressions.add(String.format(Locale.US, "%s: throughput dropped by %.1f%%", result.getName(),
+						-throughputChange));
+			}
+			if (cpuTimeChange > maxRegression) {
+				regressions.add(String.format(Locale.US, "%s: CPU time grew by %.1f%%", result.getName(),
+						cpuTimeChange));
+			}
+			if (bytesPerMoveChange > MAX_BYTES_PER_MOVE_GROWTH) {
+				regressions.add(String.format(Locale.US, "%s: allocates %.1f bytes/move more", result.getName(),
+						bytesPerMoveChange));
+			}
+		}
+		return regressions;
+	}
+
+	/**
+	 * Returns the maximum throughput drop or CPU time growth, which is not considered a regression
+	 *
+	 * @return maximum regression in percent
+	 */
+	private static double getMaxRegression() {
+		String maxRegression = System.getProperty("benchmark.maxRegression");
+		return maxRegression == null || maxRegression.isEmpty() ? DEFAULT_MAX_REGRESSION
+				: Double.parseDouble(maxRegression);
+	}
+
+}
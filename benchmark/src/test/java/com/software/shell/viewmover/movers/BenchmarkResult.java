@@ -0,0 +1,130 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 15:04:22
+ */
+
+package com.software.shell.viewmover.movers;
+
+/**
+ * Entity class, which contains the result of a single benchmark
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+final class BenchmarkResult {
+
+	/**
+	 * Name of the benchmark
+	 */
+	private final String name;
+
+	/**
+	 * Number of moves performed per second
+	 */
+	private final double movesPerSecond;
+
+	/**
+	 * Number of bytes allocated per move
+	 * <p>
+	 * Is negative if the allocations can not be measured by the JVM
+	 */
+	private final double bytesPerMove;
+
+	/**
+	 * CPU time used per move in ns
+	 * <p>
+	 * Is negative if the CPU time can not be measured by the JVM
+	 */
+	private final double cpuNanosPerMove;
+
+	/**
+	 * Number of layout passes requested per move
+	 * <p>
+	 * Is negative if the layout passes are not counted by the benchmark
+	 */
+	private final double layoutPassesPerMove;
+
+	/**
+	 * Creates an instance of the {@link BenchmarkResult}
+	 *
+	 * @param name name of the benchmark
+	 * @param movesPerSecond number of moves performed per second
+	 * @param bytesPerMove number of bytes allocated per move, negative if not measured
+	 * @param cpuNanosPerMove CPU time used per move in ns, negative if not measured
+	 * @param layoutPassesPerMove number of layout passes requested per move, negative if not counted
+	 */
+	BenchmarkResult(String name, double movesPerSecond, double bytesPerMove, double cpuNanosPerMove,
+	                double layoutPassesPerMove) {
+		this.name = name;
+		this.movesPerSecond = movesPerSecond;
+		this.bytesPerMove = bytesPerMove;
+		this.cpuNanosPerMove = cpuNanosPerMove;
+		this.layoutPassesPerMove = layoutPassesPerMove;
+	}
+
+	/**
+	 * Returns the name of the benchmark
+	 *
+	 * @return name of the benchmark
+	 */
+	String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the number of moves performed per second
+	 *
+	 * @return number of moves performed per second
+	 */
+	double getMovesPerSecond() {
+		return movesPerSecond;
+	}
+
+	/**
+	 * Returns the number of bytes allocated per move
+	 *
+	 * @return number of bytes allocated per move, negative if not measured
+	 */
+	double getBytesPerMove() {
+		return bytesPerMove;
+	}
+
+	/**
+	 * Returns the CPU time used per move
+	 *
+	 * @return CPU time used per move in ns, negative if not measured
+	 */
+	double getCpuNanosPerMove() {
+		return cpuNanosPerMove;
+	}
+
+	/**
+	 * Returns the number of layout passes requested per move
+	 *
+	 * @return number of layout passes requested per move, negative if not counted
+	 */
+	double getLayoutPassesPerMove() {
+		return layoutPassesPerMove;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%-48s %14.0f moves/s %10.1f bytes/move %10.0f cpu ns/move %6.2f layouts/move", name,
+				movesPerSecond, bytesPerMove, cpuNanosPerMove, layoutPassesPerMove);
+	}
+
+}
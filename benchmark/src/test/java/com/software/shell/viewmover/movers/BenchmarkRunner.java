@@ -0,0 +1,175 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 15:09:48
+ */
+
+package com.software.shell.viewmover.movers;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Runs the benchmark operations and measures their throughput, CPU time and allocations
+ * <p>
+ * Every operation is warmed up before the measurement, so the measured numbers
+ * describe the steady state. Allocations are measured through the HotSpot
+ * {@code com.sun.management.ThreadMXBean} and are reported as negative on the
+ * JVMs, which do not support it. CPU time is reported as negative on the JVMs,
+ * which do not support the thread CPU time measurement
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+final class BenchmarkRunner {
+
+	/**
+	 * Operation to be benchmarked
+	 */
+	interface Operation {
+
+		/**
+		 * Runs the operation once
+		 *
+		 * @param iteration number of the iteration
+		 */
+		void run(int iteration);
+
+	}
+
+	/**
+	 * Number of iterations run before the measurement
+	 */
+	private static final int WARMUP_ITERATIONS = 20000;
+
+	/**
+	 * Number of measured iterations
+	 */
+	private static final int MEASURED_ITERATIONS = 50000;
+
+	/**
+	 * Number of nanoseconds in one second
+	 */
+	private static final double NANOS_PER_SECOND = 1000000000.0;
+
+	/**
+	 * Prevents the instantiation of the utility class
+	 */
+	private BenchmarkRunner() {
+	}
+
+	/**
+	 * Runs the benchmark
+	 *
+	 * @param name name of the benchmark
+	 * @param movesPerIteration number of moves performed by one run of the operation
+	 * @param operation operation to be benchmarked
+	 * @return benchmark result
+	 */
+	static BenchmarkResult run(String name, int movesPerIteration, Operation operation) {
+		return run(name, movesPerIteration, operation, null);
+	}
+
+	/**
+	 * Runs the benchmark, counting the layout passes requested by the moves
+	 *
+	 * @param name name of the benchmark
+	 * @param movesPerIteration number of moves performed by one run of the operation
+	 * @param operation operation to be benchmarked
+	 * @param stats stats the movers of the operation record to, or {@code null} if the
+	 *              layout passes are not counted
+	 * @return benchmark result
+	 */
+	static BenchmarkResult run(String name, int movesPerIteration, Operation operation, MoveStats stats) {
+		int iterations = Math.max(1, MEASURED_ITERATIONS / movesPerIteration);
+		int warmupIterations = Math.max(1, WARMUP_ITERATIONS / movesPerIteration);
+		for (int i = 0; i < warmupIterations; i++) {
+			operation.run(i);
+		}
+		if (stats != null) {
+			stats.reset();
+		}
+		long startBytes = getAllocatedBytes();
+		long startCpuTime = getCpuTime();
+		long startTime = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			operation.run(i);
+		}
+		long elapsed = System.nanoTime() - startTime;
+		long endCpuTime = getCpuTime();
+		long endBytes = getAllocatedBytes();
+		long moves = (long) iterations * movesPerIteration;
+		double movesPerSecond = moves * NANOS_PER_SECOND / Math.max(1L, elapsed);
+		double bytesPerMove = startBytes < 0L ? -1.0 : (double) (endBytes - startBytes) / moves;
+		double cpuNanosPerMove = startCpuTime < 0L ? -1.0 : (double) (endCpuTime - startCpuTime) / moves;
+		double layoutPassesPerMove = stats == null ? -1.0 : (double) stats.snapshot().getLayoutPasses() / moves;
+		BenchmarkResult result = new BenchmarkResult(name, movesPerSecond, bytesPerMove, cpuNanosPerMove,
+				layoutPassesPerMove);
+		System.out.println(result);
+		return result;
+	}
+
+	/**
+	 * Measures the number of bytes allocated by the operation
+	 * <p>
+	 * The operation is run the number of iterations once to warm it up, and once more
+	 * to be measured
+	 *
+	 * @param iterations number of the measured iterations
+	 * @param operation operation to be measured
+	 * @return number of bytes allocated by the measured iterations, or {@code -1} if
+	 *         it can not be measured
+	 */
+	static long measureAllocatedBytes(int iterations, Operation operation) {
+		for (int i = 0; i < iterations; i++) {
+			operation.run(i);
+		}
+		long startBytes = getAllocatedBytes();
+		for (int i = 0; i < iterations; i++) {
+			operation.run(i);
+		}
+		long endBytes = getAllocatedBytes();
+		return startBytes < 0L ? -1L : endBytes - startBytes;
+	}
+
+	/**
+	 * Returns the CPU time used by the current thread
+	 *
+	 * @return CPU time in ns, or {@code -1} if it can not be measured
+	 */
+	private static long getCpuTime() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean.isCurrentThreadCpuTimeSupported()) {
+			return bean.getCurrentThreadCpuTime();
+		}
+		return -1L;
+	}
+
+	/**
+	 * Returns the number of bytes allocated by the current thread
+	 *
+	 * @return number of bytes allocated by the current thread, or {@code -1} if
+	 *         it can not be measured
+	 */
+	private static long getAllocatedBytes() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return -1L;
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 23:12:40
+ */
+
+package com.software.shell.viewmover.movers;
+
+import android.view.animation.Animation;
+import android.view.animation.AnimationUtils;
+import android.view.animation.Transformation;
+import org.robolectric.Robolectric;
+
+/**
+ * Drives the animation frames of the moved views under Robolectric
+ * <p>
+ * Nothing is drawn under Robolectric, so the view animations are never stepped by the views.
+ * Every frame the driver steps the view animation of each view, the same way the view does
+ * when it is drawn, and advances the main looper scheduler by the frame interval, which runs
+ * the {@link android.view.Choreographer} callbacks, the value animators and the posted runnables.
+ * So every move backend does its per-frame work and completes its moves
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+final class FrameDriver {
+
+	/**
+	 * Interval between two frames in ms
+	 */
+	static final long FRAME_INTERVAL = 16L;
+
+	/**
+	 * Transformation the view animations are stepped into
+	 */
+	private final Transformation transformation = new Transformation();
+
+	/**
+	 * Runs the frames until the time passes
+	 * <p>
+	 * The last frame is run at or after the time, so the moves, which last the time,
+	 * are completed
+	 *
+	 * @param movers movers of the views
+	 * @param time time in ms
+	 */
+	void runFrames(ViewMover[] movers, long time) {
+		for (long elapsed = 0L; elapsed < time + FRAME_INTERVAL; elapsed += FRAME_INTERVAL) {
+			runFrame(movers);
+		}
+	}
+
+	/**
+	 * Runs a single frame
+	 *
+	 * @param movers movers of the views
+	 */
+	void runFrame(ViewMover[] movers) {
+		long frameTime = AnimationUtils.currentAnimationTimeMillis();
+		for (ViewMover mover : movers) {
+			Animation animation = mover.getView().getAnimation();
+			if (animation != null && !animation.hasEnded()) {
+				animation.getTransformation(frameTime, transformation);
+			}
+		}
+		Robolectric.getForegroundThreadScheduler().advanceBy(FRAME_INTERVAL);
+	}
+
+}
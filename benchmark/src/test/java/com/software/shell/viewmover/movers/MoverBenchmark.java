@@ -0,0 +1,307 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 15:31:44
+ */
+
+package com.software.shell.viewmover.movers;
+
+import android.content.Context;
+import android.view.View;
+import android.widget.FrameLayout;
+import com.software.shell.viewmover.benchmark.BuildConfig;
+import com.software.shell.viewmover.configuration.MovingParams;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Benchmarks of the bound checking and move pipeline of the
+ * {@link PositionViewMover} and {@link MarginViewMover}
+ * <p>
+ * Each benchmark moves every view of a container with the given number of views once
+ * per iteration and reports the number of moves per second and the number of bytes
+ * allocated per move
+ * <p>
+ * The move benchmark runs the whole moves, driving the frames until they complete, and
+ * fails if a move allocates in the steady state. The allocations of the frame driving
+ * itself are measured separately and are not counted against the moves
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class MoverBenchmark {
+
+	/**
+	 * Numbers of the views in the container the benchmarks are run with
+	 */
+	private static final int[] VIEW_COUNTS = {1, 16, 128};
+
+	/**
+	 * Size of the container in px
+	 */
+	private static final int CONTAINER_SIZE = 2048;
+
+	/**
+	 * Size of the moved views in px
+	 */
+	private static final int VIEW_SIZE = 48;
+
+	/**
+	 * Duration of the benchmarked moves in ms
+	 */
+	private static final long MOVE_DURATION = 48L;
+
+	/**
+	 * Number of the iterations the allocations of the moves are checked over. Is even,
+	 * so the views return to their initial positions
+	 */
+	private static final int ALLOCATION_CHECK_ITERATIONS = 256;
+
+	/**
+	 * Maximum number of bytes allocated per move, which is still considered no allocation.
+	 * Every allocated object takes more, so a move, which allocates, always exceeds it
+	 */
+	private static final double MAX_BYTES_PER_MOVE = 1.0;
+
+	/**
+	 * Report of the benchmark suite
+	 */
+	private static final BenchmarkReport REPORT = new BenchmarkReport("movers");
+
+	/**
+	 * Driver of the frames of the moves
+	 */
+	private final FrameDriver frameDriver = new FrameDriver();
+
+	/**
+	 * Factory of the view movers under benchmark
+	 */
+	private interface MoverFactory {
+
+		/**
+		 * Creates the view mover
+		 *
+		 * @param view view to be moved
+		 * @return view mover
+		 */
+		ViewMover create(View view);
+
+	}
+
+	/**
+	 * Creates the {@link PositionViewMover} instances
+	 */
+	private static final MoverFactory POSITION_MOVERS = new MoverFactory() {
+		@Override
+		public ViewMover create(View view) {
+			return new PositionViewMover(view);
+		}
+	};
+
+	/**
+	 * Creates the {@link MarginViewMover} instances
+	 */
+	private static final MoverFactory MARGIN_MOVERS = new MoverFactory() {
+		@Override
+		public ViewMover create(View view) {
+			return new MarginViewMover(view);
+		}
+	};
+
+	@AfterClass
+	public static void publishReport() throws IOException {
+		REPORT.publish();
+	}
+
+	@Test
+	public void positionViewMover() {
+		benchmark("position", POSITION_MOVERS);
+	}
+
+	@Test
+	public void marginViewMover() {
+		benchmark("margin", MARGIN_MOVERS);
+	}
+
+	/**
+	 * Runs the benchmarks of the movers created by the factory for every view count
+	 *
+	 * @param name name of the movers
+	 * @param factory factory of the movers
+	 */
+	private void benchmark(String name, MoverFactory factory) {
+		Context context = RuntimeEnvironment.application;
+		for (int viewCount : VIEW_COUNTS) {
+			ViewMover[] movers = createMovers(context, factory, viewCount);
+			MovingParams forward = new MovingParams(context, 1.0f, 1.0f, MOVE_DURATION);
+			MovingParams backward = new MovingParams(context, -1.0f, -1.0f, MOVE_DURATION);
+			REPORT.add(benchmarkVerification(String.format("%s.verify[%s]", name, viewCount), movers, forward));
+			String moveName = String.format("%s.move[%s]", name, viewCount);
+			REPORT.add(benchmarkMove(moveName, movers, forward, backward));
+			verifyNoAllocation(moveName, movers, forward, backward);
+			REPORT.add(benchmarkPositionChange(String.format("%s.changePosition[%s]", name, viewCount), movers,
+					forward, backward));
+		}
+	}
+
+	/**
+	 * Benchmarks verifying the moving params against the parent container bounds
+	 *
+	 * @param name name of the benchmark
+	 * @param movers movers of the views
+	 * @param params moving params
+	 * @return benchmark result
+	 */
+	private BenchmarkResult benchmarkVerification(String name, final ViewMover[] movers, final MovingParams params) {
+		return BenchmarkRunner.run(name, movers.length, new BenchmarkRunner.Operation() {
+			@Override
+			public void run(int iteration) {
+				for (ViewMover mover : movers) {
+					mover.getVerifiedMovingParams(params);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Benchmarks the whole move, from the verification and the animation setup to
+	 * the position change and the completion, which are done by the driven frames
+	 *
+	 * @param name name of the benchmark
+	 * @param movers movers of the views
+	 * @param forward moving params of the even iterations
+	 * @param backward moving params of the odd iterations, returning the views back
+	 * @return benchmark result
+	 */
+	private BenchmarkResult benchmarkMove(String name, ViewMover[] movers, MovingParams forward,
+	                                      MovingParams backward) {
+		return BenchmarkRunner.run(name, movers.length, createMoveOperation(movers, forward, backward));
+	}
+
+	/**
+	 * Checks that the whole moves allocate nothing in the steady state
+	 * <p>
+	 * The allocations of the frames driven without any move are subtracted, so only
+	 * the allocations of the moves are checked
+	 *
+	 * @param name name of the benchmark
+	 * @param movers movers of the views
+	 * @param forward moving params of the even iterations
+	 * @param backward moving params of the odd iterations, returning the views back
+	 */
+	private void verifyNoAllocation(String name, final ViewMover[] movers, MovingParams forward,
+	                                MovingParams backward) {
+		long frameBytes = BenchmarkRunner.measureAllocatedBytes(ALLOCATION_CHECK_ITERATIONS,
+				new BenchmarkRunner.Operation() {
+					@Override
+					public void run(int iteration) {
+						frameDriver.runFrames(movers, MOVE_DURATION);
+					}
+				});
+		long moveBytes = BenchmarkRunner.measureAllocatedBytes(ALLOCATION_CHECK_ITERATIONS,
+				createMoveOperation(movers, forward, backward));
+		if (frameBytes < 0L || moveBytes < 0L) {
+			System.out.println(String.format("%s: allocations can not be measured on this JVM", name));
+			return;
+		}
+		double bytesPerMove = (double) (moveBytes - frameBytes) / ((long) ALLOCATION_CHECK_ITERATIONS * movers.length);
+		assertTrue(String.format(Locale.US, "%s: steady-state move allocates %.2f bytes", name, bytesPerMove),
+				bytesPerMove < MAX_BYTES_PER_MOVE);
+	}
+
+	/**
+	 * Creates the operation, which moves every view forward on the even iterations and
+	 * backward on the odd ones and drives the frames until the moves complete
+	 *
+	 * @param movers movers of the views
+	 * @param forward moving params of the even iterations
+	 * @param backward moving params of the odd iterations, returning the views back
+	 * @return move operation
+	 */
+	private BenchmarkRunner.Operation createMoveOperation(final ViewMover[] movers, final MovingParams forward,
+	                                                      final MovingParams backward) {
+		return new BenchmarkRunner.Operation() {
+			@Override
+			public void run(int iteration) {
+				MovingParams params = iteration % 2 == 0 ? forward : backward;
+				for (ViewMover mover : movers) {
+					mover.move(params);
+				}
+				frameDriver.runFrames(movers, MOVE_DURATION);
+			}
+		};
+	}
+
+	/**
+	 * Benchmarks changing the view position, which is done when the move completes
+	 *
+	 * @param name name of the benchmark
+	 * @param movers movers of the views
+	 * @param forward moving params of the even iterations
+	 * @param backward moving params of the odd iterations, returning the views back
+	 * @return benchmark result
+	 */
+	private BenchmarkResult benchmarkPositionChange(String name, final ViewMover[] movers,
+	                                                final MovingParams forward, final MovingParams backward) {
+		return BenchmarkRunner.run(name, movers.length, new BenchmarkRunner.Operation() {
+			@Override
+			public void run(int iteration) {
+				MovingParams params = iteration % 2 == 0 ? forward : backward;
+				for (ViewMover mover : movers) {
+					mover.changeViewPosition(params.getXAxisDelta(), params.getYAxisDelta());
+				}
+			}
+		});
+	}
+
+	/**
+	 * Creates the container with the views laid out in a grid and the movers of the views
+	 *
+	 * @param context context the views are running in
+	 * @param factory factory of the movers
+	 * @param viewCount number of the views
+	 * @return movers of the views
+	 */
+	private ViewMover[] createMovers(Context context, MoverFactory factory, int viewCount) {
+		FrameLayout container = new FrameLayout(context);
+		ViewMover[] movers = new ViewMover[viewCount];
+		int columns = CONTAINER_SIZE / (VIEW_SIZE * 2);
+		for (int i = 0; i < viewCount; i++) {
+			View view = new View(context);
+			FrameLayout.LayoutParams layoutParams = new FrameLayout.LayoutParams(VIEW_SIZE, VIEW_SIZE);
+			layoutParams.leftMargin = VIEW_SIZE + (i % columns) * VIEW_SIZE * 2;
+			layoutParams.topMargin = VIEW_SIZE + (i / columns) * VIEW_SIZE * 2;
+			container.addView(view, layoutParams);
+			movers[i] = factory.create(view);
+		}
+		int measureSpec = View.MeasureSpec.makeMeasureSpec(CONTAINER_SIZE, View.MeasureSpec.EXACTLY);
+		container.measure(measureSpec, measureSpec);
+		container.layout(0, 0, CONTAINER_SIZE, CONTAINER_SIZE);
+		return movers;
+	}
+
+}
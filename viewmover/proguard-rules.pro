@@ -27,3 +27,7 @@
     public static int v(...);
     public static int d(...);
 }
+
+-assumenosideeffects class com.software.shell.viewmover.logging.ViewMoverLog {
+    public static void v(...);
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 16:29:51
+ */
+
+package com.software.shell.viewmover.configuration;
+
+import android.view.animation.Interpolator;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Interpolator, which follows the motion of a body slowed down by friction
+ * <p>
+ * The velocity of the body decays exponentially: {@code v(t) = v0 * e^(-friction * t)}.
+ * The position is calculated in closed form for every frame and normalized, so that
+ * the body reaches {@code 1} when the fling duration elapses
+ * <p>
+ * The interpolators obtained by {@link #obtain(float, long)} are cached by the friction and
+ * the duration, so the moving params, which set the same fling, share the same interpolator
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FlingInterpolator implements Interpolator {
+
+	/**
+	 * Distance in actual pixels, which is left to travel when the fling is considered stopped
+	 */
+	private static final float STOP_DISTANCE = 0.5f;
+
+	/**
+	 * Number of the slots in the cache of the interpolators. Must be a power of two
+	 */
+	private static final int CACHE_SIZE = 16;
+
+	/**
+	 * Cache of the interpolators
+	 * <p>
+	 * Each pair of the friction and the duration is mapped to a single slot. A new pair
+	 * replaces the one stored in its slot
+	 */
+	private static final AtomicReferenceArray<FlingInterpolator> CACHE =
+			new AtomicReferenceArray<FlingInterpolator>(CACHE_SIZE);
+
+	/**
+	 * Friction coefficient in 1/s
+	 */
+	private final float friction;
+
+	/**
+	 * Duration of the fling in ms
+	 */
+	private final long duration;
+
+	/**
+	 * Product of the friction coefficient and the duration of the fling in s
+	 */
+	private final double frictionDuration;
+
+	/**
+	 * Distance travelled during the fling relative to the distance the body would
+	 * travel until it stops completely
+	 */
+	private final double travelledFraction;
+
+	/**
+	 * Creates an instance of the {@link FlingInterpolator}
+	 *
+	 * @param friction friction coefficient in 1/s. Must be positive
+	 * @param duration duration of the fling in ms
+	 */
+	public FlingInterpolator(float friction, long duration) {
+		if (friction <= 0.0f) {
+			throw new IllegalArgumentException("Fling friction must be positive, but was " + friction);
+		}
+		this.friction = friction;
+		this.duration = duration;
+		this.frictionDuration = friction * (duration / 1000.0);
+		this.travelledFraction = 1.0 - Math.exp(-frictionDuration);
+	}
+
+	/**
+	 * Returns the interpolator of the fling with the friction and the duration
+	 * <p>
+	 * If the interpolator with the same friction and duration is in the cache, it is
+	 * returned without allocating a new one. Otherwise the new interpolator is created
+	 * and put into the cache
+	 *
+	 * @param friction friction coefficient in 1/s. Must be positive
+	 * @param duration duration of the fling in ms
+	 * @return interpolator of the fling
+	 * @see #FlingInterpolator(float, long)
+	 */
+	public static FlingInterpolator obtain(float friction, long duration) {
+		int hash = 31 * Float.floatToIntBits(friction) + (int) (duration ^ (duration >>> 32));
+		int slot = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+		FlingInterpolator cached = CACHE.get(slot);
+		if (cached != null && Float.floatToIntBits(cached.friction) == Float.floatToIntBits(friction)
+				&& cached.duration == duration) {
+			return cached;
+		}
+		FlingInterpolator interpolator = new FlingInterpolator(friction, duration);
+		CACHE.set(slot, interpolator);
+		return interpolator;
+	}
+
+	/**
+	 * Returns the duration of the fling
+	 *
+	 * @return duration of the fling in ms
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Calculates the duration of the fling, after which the body is considered stopped
+	 *
+	 * @param xAxisVelocity X-axis velocity in actual pixels per second
+	 * @param yAxisVelocity Y-axis velocity in actual pixels per second
+	 * @param friction friction coefficient in 1/s. Must be positive
+	 * @return duration of the fling in ms
+	 */
+	static long calculateDuration(float xAxisVelocity, float yAxisVelocity, float friction) {
+		if (friction <= 0.0f) {
+			throw new IllegalArgumentException("Fling friction must be positive, but was " + friction);
+		}
+		double stopDistance = Math.hypot(xAxisVelocity, yAxisVelocity) / friction;
+		double duration = stopDistance > STOP_DISTANCE ? Math.log(stopDistance / STOP_DISTANCE) / friction : 0.0;
+		return (long) Math.ceil(duration * 1000.0);
+	}
+
+	/**
+	 * Calculates the distance the body travels along the axis during the fling
+	 *
+	 * @param velocity initial velocity along the axis in actual pixels per second
+	 * @return travelled distance in actual pixels
+	 */
+	float getTravelledDistance(float velocity) {
+		return (float) (velocity / friction * travelledFraction);
+	}
+
+	/**
+	 * Returns the position of the body at the elapsed fraction of the fling duration
+	 *
+	 * @param input elapsed fraction of the fling duration
+	 * @return position of the body
+	 */
+	@Override
+	public float getInterpolation(float input) {
+		if (input >= 1.0f || travelledFraction <= 0.0) {
+			return 1.0f;
+		}
+		return (float) ((1.0 - Math.exp(-frictionDuration * input)) / travelledFraction);
+	}
+
+}
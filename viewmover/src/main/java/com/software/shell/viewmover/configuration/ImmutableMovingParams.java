@@ -0,0 +1,523 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 17:41:06
+ */
+
+package com.software.shell.viewmover.configuration;
+
+import android.content.Context;
+import android.view.animation.Interpolator;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Immutable moving params, which are created by the {@link Builder}
+ * <p>
+ * The deltas are converted into actual pixels when the params are built, so the params
+ * keep no reference to the {@link android.content.Context} and are safe to be shared across
+ * threads and views. Unlike the {@link MovingParams}, have no setters, and are accepted by
+ * the view movers as the {@link ReadableMovingParams}. The view movers use the immutable params as they are, without copying them, unless
+ * the deltas have to be corrected to fit the parent container
+ * <p>
+ * Frequently reused moves can be interned by {@link Builder#intern()}, which returns the same
+ * instance for the same values while it stays in the small interning cache
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public final class ImmutableMovingParams extends ReadableMovingParams {
+
+	/**
+	 * Number of the slots in the interning cache. Must be a power of two
+	 */
+	private static final int INTERN_CACHE_SIZE = 64;
+
+	/**
+	 * Interning cache
+	 * <p>
+	 * Each set of values is mapped to a single slot. A new set of values replaces
+	 * the one stored in its slot
+	 */
+	private static final AtomicReferenceArray<ImmutableMovingParams> INTERN_CACHE =
+			new AtomicReferenceArray<ImmutableMovingParams>(INTERN_CACHE_SIZE);
+
+	/**
+	 * An X-axis delta in actual pixels
+	 */
+	private final float xAxisDelta;
+
+	/**
+	 * An Y-axis delta in actual pixels
+	 */
+	private final float yAxisDelta;
+
+	/**
+	 * Move animation duration in ms
+	 */
+	private final long animationDuration;
+
+	/**
+	 * Move animation interpolator
+	 */
+	private final Interpolator animationInterpolator;
+
+	/**
+	 * Whether the view is rendered into a hardware layer while moving
+	 */
+	private final boolean hardwareLayerEnabled;
+
+	/**
+	 * Snapping policy the destination of the move is adjusted by
+	 */
+	private final SnapPolicy snapPolicy;
+
+	/**
+	 * Absolute destination of the move
+	 */
+	private final MoveTarget target;
+
+	/**
+	 * Hash code of the values
+	 */
+	private final int hashCode;
+
+	/**
+	 * Creates an instance of the {@link ImmutableMovingParams}
+	 *
+	 * @param builder builder, which values are copied of
+	 */
+	private ImmutableMovingParams(Builder builder) {
+		this.xAxisDelta = builder.xAxisDelta;
+		this.yAxisDelta = builder.yAxisDelta;
+		this.animationDuration = builder.animationDuration;
+		this.animationInterpolator = builder.animationInterpolator;
+		this.hardwareLayerEnabled = builder.hardwareLayerEnabled;
+		this.snapPolicy = builder.snapPolicy;
+		this.target = builder.target;
+		this.hashCode = hash(xAxisDelta, yAxisDelta, animationDuration, animationInterpolator, hardwareLayerEnabled,
+				snapPolicy, target);
+	}
+
+	/**
+	 * Returns an X-axis delta in actual pixels
+	 *
+	 * @return X-axis delta in actual pixels
+	 */
+	@Override
+	public float getXAxisDelta() {
+		return xAxisDelta;
+	}
+
+	/**
+	 * Returns an Y-axis delta in actual pixels
+	 *
+	 * @return Y-axis delta in actual pixels
+	 */
+	@Override
+	public float getYAxisDelta() {
+		return yAxisDelta;
+	}
+
+	/**
+	 * Returns the move animation duration in ms
+	 *
+	 * @return move animation duration in ms
+	 */
+	@Override
+	public long getAnimationDuration() {
+		return animationDuration;
+	}
+
+	/**
+	 * Returns move animation interpolator
+	 *
+	 * @return move animation interpolator
+	 */
+	@Override
+	public Interpolator getAnimationInterpolator() {
+		return animationInterpolator;
+	}
+
+	/**
+	 * Checks whether the view is rendered into a hardware layer while moving
+	 *
+	 * @return true if the view is rendered into a hardware layer while moving, otherwise false
+	 */
+	@Override
+	public boolean isHardwareLayerEnabled() {
+		return hardwareLayerEnabled;
+	}
+
+	/**
+	 * Returns the snapping policy the destination of the move is adjusted by
+	 *
+	 * @return snapping policy, or {@code null} if the destination is not snapped
+	 */
+	@Override
+	public SnapPolicy getSnapPolicy() {
+		return snapPolicy;
+	}
+
+	/**
+	 * Returns the absolute destination of the move
+	 *
+	 * @return absolute destination of the move, or {@code null} if the deltas are used
+	 */
+	@Override
+	public MoveTarget getTarget() {
+		return target;
+	}
+
+	/**
+	 * Checks whether the moving params can be changed after they are created
+	 *
+	 * @return always true
+	 */
+	@Override
+	public boolean isImmutable() {
+		return true;
+	}
+
+	/**
+	 * Checks whether the object is the immutable moving params with the same values
+	 * <p>
+	 * Interpolators, snapping policies and targets are compared by identity
+	 *
+	 * @param o object to be compared with
+	 * @return true if the object is the immutable moving params with the same values, otherwise false
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof ImmutableMovingParams)) {
+			return false;
+		}
+		ImmutableMovingParams params = (ImmutableMovingParams) o;
+		return hashCode == params.hashCode && matches(params.xAxisDelta, params.yAxisDelta,
+				params.animationDuration, params.animationInterpolator, params.hardwareLayerEnabled, params.snapPolicy,
+				params.target);
+	}
+
+	/**
+	 * Returns the hash code of the values
+	 *
+	 * @return hash code of the values
+	 */
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	/**
+	 * Checks whether the moving params have the values
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @param animationDuration move animation duration in ms
+	 * @param animationInterpolator move animation interpolator
+	 * @param hardwareLayerEnabled whether the view is rendered into a hardware layer while moving
+	 * @param snapPolicy snapping policy the destination of the move is adjusted by
+	 * @param target absolute destination of the move
+	 * @return true if the moving params have the values, otherwise false
+	 */
+	private boolean matches(float xAxisDelta, float yAxisDelta, long animationDuration,
+	                        Interpolator animationInterpolator, boolean hardwareLayerEnabled,
+	                        SnapPolicy snapPolicy, MoveTarget target) {
+		return Float.floatToIntBits(this.xAxisDelta) == Float.floatToIntBits(xAxisDelta)
+				&& Float.floatToIntBits(this.yAxisDelta) == Float.floatToIntBits(yAxisDelta)
+				&& this.animationDuration == animationDuration
+				&& this.animationInterpolator == animationInterpolator
+				&& this.hardwareLayerEnabled == hardwareLayerEnabled
+				&& this.snapPolicy == snapPolicy
+				&& this.target == target;
+	}
+
+	/**
+	 * Calculates the hash code of the values
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @param animationDuration move animation duration in ms
+	 * @param animationInterpolator move animation interpolator
+	 * @param hardwareLayerEnabled whether the view is rendered into a hardware layer while moving
+	 * @param snapPolicy snapping policy the destination of the move is adjusted by
+	 * @param target absolute destination of the move
+	 * @return hash code of the values
+	 */
+	private static int hash(float xAxisDelta, float yAxisDelta, long animationDuration,
+	                        Interpolator animationInterpolator, boolean hardwareLayerEnabled,
+	                        SnapPolicy snapPolicy, MoveTarget target) {
+		int result = Float.floatToIntBits(xAxisDelta);
+		result = 31 * result + Float.floatToIntBits(yAxisDelta);
+		result = 31 * result + (int) (animationDuration ^ (animationDuration >>> 32));
+		result = 31 * result + System.identityHashCode(animationInterpolator);
+		result = 31 * result + (hardwareLayerEnabled ? 1 : 0);
+		result = 31 * result + System.identityHashCode(snapPolicy);
+		result = 31 * result + System.identityHashCode(target);
+		return result;
+	}
+
+	/**
+	 * Builder of the {@link ImmutableMovingParams}
+	 * <p>
+	 * The builder is not thread-safe, the params built by it are
+	 */
+	public static final class Builder {
+
+		/**
+		 * Context, which is used to convert the density-independent values
+		 */
+		private final Context context;
+
+		/**
+		 * An X-axis delta in actual pixels
+		 */
+		private float xAxisDelta;
+
+		/**
+		 * An Y-axis delta in actual pixels
+		 */
+		private float yAxisDelta;
+
+		/**
+		 * Move animation duration in ms
+		 */
+		private long animationDuration = MovingParams.DEFAULT_ANIMATION_DURATION;
+
+		/**
+		 * Move animation interpolator
+		 */
+		private Interpolator animationInterpolator;
+
+		/**
+		 * Whether the view is rendered into a hardware layer while moving
+		 */
+		private boolean hardwareLayerEnabled;
+
+		/**
+		 * Snapping policy the destination of the move is adjusted by
+		 */
+		private SnapPolicy snapPolicy;
+
+		/**
+		 * Absolute destination of the move
+		 */
+		private MoveTarget target;
+
+		/**
+		 * Creates an instance of the {@link Builder}
+		 *
+		 * @param context context, which is used to convert the density-independent values.
+		 *                Is not kept by the built params
+		 */
+		public Builder(Context context) {
+			this.context = context;
+		}
+
+		/**
+		 * Sets an X-axis delta
+		 *
+		 * @param xAxisDelta X-axis delta in density-independent pixels.
+		 *                   Positive value means that view is moving right
+		 * @return this builder
+		 */
+		public Builder setXAxisDelta(float xAxisDelta) {
+			this.xAxisDelta = xAxisDelta * context.getResources().getDisplayMetrics().density;
+			return this;
+		}
+
+		/**
+		 * Sets an X-axis delta without converting it
+		 *
+		 * @param xAxisDelta X-axis delta in actual pixels
+		 * @return this builder
+		 */
+		public Builder setXAxisDeltaInPixels(float xAxisDelta) {
+			this.xAxisDelta = xAxisDelta;
+			return this;
+		}
+
+		/**
+		 * Sets an Y-axis delta
+		 *
+		 * @param yAxisDelta Y-axis delta in density-independent pixels.
+		 *                   Positive value means that view is moving down
+		 * @return this builder
+		 */
+		public Builder setYAxisDelta(float yAxisDelta) {
+			this.yAxisDelta = yAxisDelta * context.getResources().getDisplayMetrics().density;
+			return this;
+		}
+
+		/**
+		 * Sets an Y-axis delta without converting it
+		 *
+		 * @param yAxisDelta Y-axis delta in actual pixels
+		 * @return this builder
+		 */
+		public Builder setYAxisDeltaInPixels(float yAxisDelta) {
+			this.yAxisDelta = yAxisDelta;
+			return this;
+		}
+
+		/**
+		 * Sets the move animation duration
+		 *
+		 * @param animationDuration move animation duration in ms
+		 * @return this builder
+		 */
+		public Builder setAnimationDuration(long animationDuration) {
+			this.animationDuration = animationDuration;
+			return this;
+		}
+
+		/**
+		 * Sets the move animation interpolator
+		 * <p>
+		 * The interpolator is shared by all the views the params are used for, so it must
+		 * keep no state between the calls
+		 *
+		 * @param animationInterpolator move animation interpolator
+		 * @return this builder
+		 */
+		public Builder setAnimationInterpolator(Interpolator animationInterpolator) {
+			this.animationInterpolator = animationInterpolator;
+			return this;
+		}
+
+		/**
+		 * Makes the view move like it is pulled by a damped spring
+		 * <p>
+		 * Sets the move animation interpolator to the {@link SpringInterpolator} and
+		 * the move animation duration to the spring settle duration. The interpolator is
+		 * taken of the cache by {@link SpringInterpolator#obtain(float, float)}, so the params
+		 * with the same spring are interned to the same instance
+		 *
+		 * @param stiffness stiffness of the spring in 1/s^2. Must be positive
+		 * @param dampingRatio damping ratio of the spring. Must be positive
+		 * @return this builder
+		 * @see MovingParams#setSpring(float, float)
+		 */
+		public Builder setSpring(float stiffness, float dampingRatio) {
+			SpringInterpolator interpolator = SpringInterpolator.obtain(stiffness, dampingRatio);
+			this.animationInterpolator = interpolator;
+			this.animationDuration = interpolator.getSettleDuration();
+			return this;
+		}
+
+		/**
+		 * Makes the view fling with the initial velocity, which is slowed down by friction
+		 * <p>
+		 * Sets the X- and Y-axis deltas to the distance the view travels until it stops,
+		 * the move animation interpolator to the {@link FlingInterpolator} and the move
+		 * animation duration to the time it takes the view to stop. The interpolator is
+		 * taken of the cache by {@link FlingInterpolator#obtain(float, long)}
+		 *
+		 * @param xAxisVelocity X-axis velocity in density-independent pixels per second.
+		 *                      Positive value means that view is moving right
+		 * @param yAxisVelocity Y-axis velocity in density-independent pixels per second.
+		 *                      Positive value means that view is moving down
+		 * @param friction friction coefficient in 1/s. Higher values make the view stop sooner.
+		 *                 Must be positive
+		 * @return this builder
+		 * @see MovingParams#setFling(float, float, float)
+		 */
+		public Builder setFling(float xAxisVelocity, float yAxisVelocity, float friction) {
+			float density = context.getResources().getDisplayMetrics().density;
+			float xVelocity = xAxisVelocity * density;
+			float yVelocity = yAxisVelocity * density;
+			FlingInterpolator interpolator = FlingInterpolator.obtain(friction,
+					FlingInterpolator.calculateDuration(xVelocity, yVelocity, friction));
+			this.xAxisDelta = interpolator.getTravelledDistance(xVelocity);
+			this.yAxisDelta = interpolator.getTravelledDistance(yVelocity);
+			this.animationDuration = interpolator.getDuration();
+			this.animationInterpolator = interpolator;
+			return this;
+		}
+
+		/**
+		 * Sets whether the view is rendered into a hardware layer while moving
+		 *
+		 * @param hardwareLayerEnabled true if the view must be rendered into a hardware layer
+		 *                             while moving, otherwise false
+		 * @return this builder
+		 */
+		public Builder setHardwareLayerEnabled(boolean hardwareLayerEnabled) {
+			this.hardwareLayerEnabled = hardwareLayerEnabled;
+			return this;
+		}
+
+		/**
+		 * Sets the snapping policy the destination of the move is adjusted by
+		 *
+		 * @param snapPolicy snapping policy, or {@code null} if the destination must not be snapped
+		 * @return this builder
+		 * @see MovingParams#setSnapPolicy(SnapPolicy)
+		 */
+		public Builder setSnapPolicy(SnapPolicy snapPolicy) {
+			this.snapPolicy = snapPolicy;
+			return this;
+		}
+
+		/**
+		 * Sets the absolute destination of the move
+		 *
+		 * @param target absolute destination of the move, or {@code null} if the deltas must be used
+		 * @return this builder
+		 * @see MovingParams#setTarget(MoveTarget)
+		 */
+		public Builder setTarget(MoveTarget target) {
+			this.target = target;
+			return this;
+		}
+
+		/**
+		 * Creates the new immutable moving params with the values of the builder
+		 *
+		 * @return immutable moving params
+		 */
+		public ImmutableMovingParams build() {
+			return new ImmutableMovingParams(this);
+		}
+
+		/**
+		 * Returns the interned immutable moving params with the values of the builder
+		 * <p>
+		 * If the params with the same values are in the interning cache, they are returned
+		 * without allocating new ones. Otherwise the new params are built and put into the cache
+		 *
+		 * @return interned immutable moving params
+		 */
+		public ImmutableMovingParams intern() {
+			int hash = hash(xAxisDelta, yAxisDelta, animationDuration, animationInterpolator, hardwareLayerEnabled,
+					snapPolicy, target);
+			int slot = (hash ^ (hash >>> 16)) & (INTERN_CACHE_SIZE - 1);
+			ImmutableMovingParams cached = INTERN_CACHE.get(slot);
+			if (cached != null && cached.hashCode == hash && cached.matches(xAxisDelta, yAxisDelta,
+					animationDuration, animationInterpolator, hardwareLayerEnabled, snapPolicy, target)) {
+				return cached;
+			}
+			ImmutableMovingParams params = build();
+			INTERN_CACHE.set(slot, params);
+			return params;
+		}
+
+	}
+
+}
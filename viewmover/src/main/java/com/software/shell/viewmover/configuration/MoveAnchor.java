@@ -0,0 +1,121 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 22:31:26
+ */
+
+package com.software.shell.viewmover.configuration;
+
+/**
+ * Anchors of the parent container the view can be moved to
+ * <p>
+ * The edge anchors move the view along one axis only, leaving the other coordinate unchanged.
+ * Used through {@link MoveTarget#anchor(MoveAnchor)}
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public enum MoveAnchor {
+
+	/**
+	 * The view is centered within its parent container
+	 */
+	CENTER(0.5f, 0.5f),
+
+	/**
+	 * The view is moved to the left edge of its parent container
+	 */
+	LEFT(0.0f, Float.NaN),
+
+	/**
+	 * The view is moved to the top edge of its parent container
+	 */
+	TOP(Float.NaN, 0.0f),
+
+	/**
+	 * The view is moved to the right edge of its parent container
+	 */
+	RIGHT(1.0f, Float.NaN),
+
+	/**
+	 * The view is moved to the bottom edge of its parent container
+	 */
+	BOTTOM(Float.NaN, 1.0f),
+
+	/**
+	 * The view is moved to the top-left corner of its parent container
+	 */
+	TOP_LEFT(0.0f, 0.0f),
+
+	/**
+	 * The view is moved to the top-right corner of its parent container
+	 */
+	TOP_RIGHT(1.0f, 0.0f),
+
+	/**
+	 * The view is moved to the bottom-left corner of its parent container
+	 */
+	BOTTOM_LEFT(0.0f, 1.0f),
+
+	/**
+	 * The view is moved to the bottom-right corner of its parent container
+	 */
+	BOTTOM_RIGHT(1.0f, 1.0f);
+
+	/**
+	 * Fraction of the horizontal space left around the view, which is left of the view,
+	 * or {@link Float#NaN} if the X coordinate is left unchanged
+	 */
+	private final float xFraction;
+
+	/**
+	 * Fraction of the vertical space left around the view, which is above the view,
+	 * or {@link Float#NaN} if the Y coordinate is left unchanged
+	 */
+	private final float yFraction;
+
+	/**
+	 * Creates the anchor
+	 *
+	 * @param xFraction fraction of the horizontal space, which is left of the view
+	 * @param yFraction fraction of the vertical space, which is above the view
+	 */
+	MoveAnchor(float xFraction, float yFraction) {
+		this.xFraction = xFraction;
+		this.yFraction = yFraction;
+	}
+
+	/**
+	 * Returns the fraction of the horizontal space left around the view, which is left of the view
+	 *
+	 * @return fraction of the horizontal space, or {@link Float#NaN} if the X coordinate
+	 *         is left unchanged
+	 */
+	float getXFraction() {
+		return xFraction;
+	}
+
+	/**
+	 * Returns the fraction of the vertical space left around the view, which is above the view
+	 *
+	 * @return fraction of the vertical space, or {@link Float#NaN} if the Y coordinate
+	 *         is left unchanged
+	 */
+	float getYFraction() {
+		return yFraction;
+	}
+
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 18:39:47
+ */
+
+package com.software.shell.viewmover.configuration;
+
+import android.content.Context;
+import com.software.shell.viewmover.logging.ViewMoverLog;
+
+import java.util.Arrays;
+
+/**
+ * Path the view is moved along, which consists of straight lines, quadratic and cubic
+ * Bezier curves
+ * <p>
+ * All the points are relative to the position of the view when the move starts. The path
+ * is parameterized by its arc length, so the view moves along the path with the speed defined
+ * by the move animation interpolator regardless of how the segments are shaped. The arc length
+ * parameterization is precomputed into a lookup table of points sampled along the path, once
+ * after the path is changed
+ * <p>
+ * The path must not be changed while the view is being moved along it. Once the lookup
+ * table is computed, the same path can be used to move several views
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class MovePath {
+
+	/**
+	 * Logging tag
+	 */
+	private static final String LOG_TAG = String.format("[view-mover][%s]", MovePath.class.getSimpleName());
+
+	/**
+	 * Number of the intervals a curve segment is sampled at
+	 */
+	private static final int CURVE_SAMPLES = 16;
+
+	/**
+	 * Type of the straight line segment
+	 */
+	private static final int SEGMENT_LINE = 0;
+
+	/**
+	 * Type of the quadratic Bezier curve segment
+	 */
+	private static final int SEGMENT_QUAD = 1;
+
+	/**
+	 * Type of the cubic Bezier curve segment
+	 */
+	private static final int SEGMENT_CUBIC = 2;
+
+	/**
+	 * Number of the coordinates stored per segment
+	 */
+	private static final int SEGMENT_COORDS = 6;
+
+	/**
+	 * Density the coordinates are multiplied by
+	 */
+	private final float density;
+
+	/**
+	 * Types of the segments
+	 */
+	private int[] segmentTypes = new int[4];
+
+	/**
+	 * Coordinates of the segments in actual pixels. Each segment takes
+	 * {@link #SEGMENT_COORDS} values: the control points followed by the end point
+	 */
+	private float[] segmentCoords = new float[4 * SEGMENT_COORDS];
+
+	/**
+	 * Number of the segments
+	 */
+	private int segmentCount;
+
+	/**
+	 * X coordinates of the points sampled along the path
+	 * <p>
+	 * Is {@code null} until the lookup table is computed
+	 */
+	private float[] sampleX;
+
+	/**
+	 * Y coordinates of the points sampled along the path
+	 */
+	private float[] sampleY;
+
+	/**
+	 * Arc length of the path from its start to each of the sampled points
+	 */
+	private float[] sampleDistance;
+
+	/**
+	 * Index of the last sampled point of each segment
+	 */
+	private int[] segmentEndSamples;
+
+	/**
+	 * Creates an instance of the {@link MovePath} with the coordinates in
+	 * density-independent pixels
+	 *
+	 * @param context context the view is running in
+	 */
+	public MovePath(Context context) {
+		this(context.getResources().getDisplayMetrics().density);
+	}
+
+	/**
+	 * Creates an instance of the {@link MovePath}
+	 *
+	 * @param density density the coordinates are multiplied by
+	 */
+	private MovePath(float density) {
+		this.density = density;
+	}
+
+	/**
+	 * Creates an instance of the {@link MovePath} with the coordinates in actual pixels
+	 *
+	 * @return move path
+	 */
+	public static MovePath createInPixels() {
+		return new MovePath(1.0f);
+	}
+
+	/**
+	 * Adds the straight line from the end of the previous segment to the point
+	 *
+	 * @param x X coordinate of the end point
+	 * @param y Y coordinate of the end point
+	 * @return this path
+	 */
+	public MovePath lineTo(float x, float y) {
+		addSegment(SEGMENT_LINE, 0.0f, 0.0f, 0.0f, 0.0f, x, y);
+		return this;
+	}
+
+	/**
+	 * Adds the quadratic Bezier curve from the end of the previous segment to the point
+	 *
+	 * @param controlX X coordinate of the control point
+	 * @param controlY Y coordinate of the control point
+	 * @param x X coordinate of the end point
+	 * @param y Y coordinate of the end point
+	 * @return this path
+	 */
+	public MovePath quadTo(float controlX, float controlY, float x, float y) {
+		addSegment(SEGMENT_QUAD, controlX, controlY, 0.0f, 0.0f, x, y);
+		return this;
+	}
+
+	/**
+	 * Adds the cubic Bezier curve from the end of the previous segment to the point
+	 *
+	 * @param control1X X coordinate of the first control point
+	 * @param control1Y Y coordinate of the first control point
+	 * @param control2X X coordinate of the second control point
+	 * @param control2Y Y coordinate of the second control point
+	 * @param x X coordinate of the end point
+	 * @param y Y coordinate of the end point
+	 * @return this path
+	 */
+	public MovePath cubicTo(float control1X, float control1Y, float control2X, float control2Y, float x, float y) {
+		addSegment(SEGMENT_CUBIC, control1X, control1Y, control2X, control2Y, x, y);
+		return this;
+	}
+
+	/**
+	 * Removes all the segments of the path
+	 */
+	public void reset() {
+		segmentCount = 0;
+		sampleX = null;
+	}
+
+	/**
+	 * Returns the number of the segments
+	 *
+	 * @return number of the segments
+	 */
+	public int getSegmentCount() {
+		return segmentCount;
+	}
+
+	/**
+	 * Returns the arc length of the path
+	 *
+	 * @return arc length of the path in actual pixels
+	 */
+	public float getLength() {
+		ensureLookupTable();
+		return sampleDistance[sampleDistance.length - 1];
+	}
+
+	/**
+	 * Returns the arc length of the path from its start to the end of the segment
+	 *
+	 * @param segment index of the segment
+	 * @return arc length to the end of the segment in actual pixels
+	 */
+	public float getSegmentEndDistance(int segment) {
+		ensureLookupTable();
+		return sampleDistance[segmentEndSamples[segment]];
+	}
+
+	/**
+	 * Calculates the bounding box of the segment
+	 *
+	 * @param segment index of the segment
+	 * @param bounds array the bounds are written into, in actual pixels: minimum X,
+	 *               minimum Y, maximum X and maximum Y
+	 */
+	public void getSegmentBounds(int segment, float[] bounds) {
+		ensureLookupTable();
+		int first = segment == 0 ? 0 : segmentEndSamples[segment - 1];
+		int last = segmentEndSamples[segment];
+		bounds[0] = Float.MAX_VALUE;
+		bounds[1] = Float.MAX_VALUE;
+		bounds[2] = -Float.MAX_VALUE;
+		bounds[3] = -Float.MAX_VALUE;
+		for (int i = first; i <= last; i++) {
+			bounds[0] = Math.min(bounds[0], sampleX[i]);
+			bounds[1] = Math.min(bounds[1], sampleY[i]);
+			bounds[2] = Math.max(bounds[2], sampleX[i]);
+			bounds[3] = Math.max(bounds[3], sampleY[i]);
+		}
+	}
+
+	/**
+	 * Calculates the point of the path at the arc length from its start
+	 * <p>
+	 * The arc length is clamped to the path length. Allocates no objects
+	 *
+	 * @param distance arc length from the start of the path in actual pixels
+	 * @param point array the point is written into, in actual pixels: X and Y
+	 */
+	public void getPoint(float distance, float[] point) {
+		ensureLookupTable();
+		int last = sampleDistance.length - 1;
+		if (distance <= 0.0f || last == 0) {
+			point[0] = sampleX[0];
+			point[1] = sampleY[0];
+			return;
+		}
+		if (distance >= sampleDistance[last]) {
+			point[0] = sampleX[last];
+			point[1] = sampleY[last];
+			return;
+		}
+		int index = Arrays.binarySearch(sampleDistance, distance);
+		if (index >= 0) {
+			point[0] = sampleX[index];
+			point[1] = sampleY[index];
+			return;
+		}
+		int next = -index - 1;
+		int previous = next - 1;
+		float interval = sampleDistance[next] - sampleDistance[previous];
+		float fraction = interval > 0.0f ? (distance - sampleDistance[previous]) / interval : 0.0f;
+		point[0] = sampleX[previous] + (sampleX[next] - sampleX[previous]) * fraction;
+		point[1] = sampleY[previous] + (sampleY[next] - sampleY[previous]) * fraction;
+	}
+
+	/**
+	 * Adds the segment to the path and invalidates the lookup table
+	 *
+	 * @param type type of the segment
+	 * @param x1 X coordinate of the first control point in the path units
+	 * @param y1 Y coordinate of the first control point in the path units
+	 * @param x2 X coordinate of the second control point in the path units
+	 * @param y2 Y coordinate of the second control point in the path units
+	 * @param x X coordinate of the end point in the path units
+	 * @param y Y coordinate of the end point in the path units
+	 */
+	private void addSegment(int type, float x1, float y1, float x2, float y2, float x, float y) {
+		if (segmentCount == segmentTypes.length) {
+			segmentTypes = Arrays.copyOf(segmentTypes, segmentCount * 2);
+			segmentCoords = Arrays.copyOf(segmentCoords, segmentCount * 2 * SEGMENT_COORDS);
+		}
+		int offset = segmentCount * SEGMENT_COORDS;
+		segmentTypes[segmentCount] = type;
+		segmentCoords[offset] = x1 * density;
+		segmentCoords[offset + 1] = y1 * density;
+		segmentCoords[offset + 2] = x2 * density;
+		segmentCoords[offset + 3] = y2 * density;
+		segmentCoords[offset + 4] = x * density;
+		segmentCoords[offset + 5] = y * density;
+		segmentCount++;
+		sampleX = null;
+	}
+
+	/**
+	 * Computes the lookup table of the points sampled along the path, unless it is
+	 * computed already
+	 * <p>
+	 * Straight lines are sampled at their end points only, curves are sampled at
+	 * {@link #CURVE_SAMPLES} intervals
+	 */
+	private void ensureLookupTable() {
+		if (sampleX != null) {
+			return;
+		}
+		int sampleCount = 1;
+		for (int i = 0; i < segmentCount; i++) {
+			sampleCount += segmentTypes[i] == SEGMENT_LINE ? 1 : CURVE_SAMPLES;
+		}
+		float[] xs = new float[sampleCount];
+		float[] ys = new float[sampleCount];
+		float[] distances = new float[sampleCount];
+		segmentEndSamples = new int[segmentCount];
+		int sample = 0;
+		float startX = 0.0f;
+		float startY = 0.0f;
+		for (int i = 0; i < segmentCount; i++) {
+			int offset = i * SEGMENT_COORDS;
+			int intervals = segmentTypes[i] == SEGMENT_LINE ? 1 : CURVE_SAMPLES;
+			for (int j = 1; j <= intervals; j++) {
+				float t = (float) j / intervals;
+				xs[sample + 1] = evaluate(segmentTypes[i], t, startX, segmentCoords[offset],
+						segmentCoords[offset + 2], segmentCoords[offset + 4]);
+				ys[sample + 1] = evaluate(segmentTypes[i], t, startY, segmentCoords[offset + 1],
+						segmentCoords[offset + 3], segmentCoords[offset + 5]);
+				float dx = xs[sample + 1] - xs[sample];
+				float dy = ys[sample + 1] - ys[sample];
+				distances[sample + 1] = distances[sample] + (float) Math.sqrt(dx * dx + dy * dy);
+				sample++;
+			}
+			segmentEndSamples[i] = sample;
+			startX = segmentCoords[offset + 4];
+			startY = segmentCoords[offset + 5];
+		}
+		sampleY = ys;
+		sampleDistance = distances;
+		sampleX = xs;
+		ViewMoverLog.v(LOG_TAG, "Path lookup table computed: samples = %s, length = %s, end X = %s, end Y = %s",
+				sampleCount, (int) distances[sampleCount - 1], (int) xs[sampleCount - 1], (int) ys[sampleCount - 1]);
+	}
+
+	/**
+	 * Evaluates the coordinate of the segment at the parameter
+	 *
+	 * @param type type of the segment
+	 * @param t parameter of the segment from {@code 0} to {@code 1}
+	 * @param start start coordinate
+	 * @param control1 first control coordinate
+	 * @param control2 second control coordinate
+	 * @param end end coordinate
+	 * @return coordinate of the segment
+	 */
+	private static float evaluate(int type, float t, float start, float control1, float control2, float end) {
+		float u = 1.0f - t;
+		switch (type) {
+			case SEGMENT_QUAD:
+				return u * u * start + 2.0f * u * t * control1 + t * t * end;
+			case SEGMENT_CUBIC:
+				return u * u * u * start + 3.0f * u * u * t * control1 + 3.0f * u * t * t * control2
+						+ t * t * t * end;
+			default:
+				return start + (end - start) * t;
+		}
+	}
+
+}
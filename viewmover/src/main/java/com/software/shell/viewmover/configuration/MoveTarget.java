@@ -0,0 +1,203 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 22:36:02
+ */
+
+package com.software.shell.viewmover.configuration;
+
+import android.content.Context;
+
+/**
+ * Absolute destination of the move
+ * <p>
+ * The destination is the position of the top-left corner of the view within its parent
+ * container. It is either set in pixels, or as a fraction of the space left around the view
+ * within its parent container, so {@code 0%} puts the view at the left or top edge, {@code 100%}
+ * at the right or bottom edge and {@code 50%} centers it. The deltas are calculated by the view
+ * mover from the geometry of the view captured when the move starts, so the destination does not
+ * depend on the moves performed before it
+ * <p>
+ * The target is immutable and can be shared across threads and views
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public final class MoveTarget {
+
+	/**
+	 * Type of the target set in pixels
+	 */
+	private static final int TYPE_POSITION = 0;
+
+	/**
+	 * Type of the target set as a fraction of the space left around the view
+	 */
+	private static final int TYPE_FRACTION = 1;
+
+	/**
+	 * Targets of the anchors, indexed by the anchor ordinal
+	 */
+	private static final MoveTarget[] ANCHOR_TARGETS = createAnchorTargets();
+
+	/**
+	 * Type of the target
+	 */
+	private final int type;
+
+	/**
+	 * X coordinate in actual pixels or fraction of the horizontal space, or {@link Float#NaN}
+	 * if the X coordinate is left unchanged
+	 */
+	private final float x;
+
+	/**
+	 * Y coordinate in actual pixels or fraction of the vertical space, or {@link Float#NaN}
+	 * if the Y coordinate is left unchanged
+	 */
+	private final float y;
+
+	/**
+	 * Creates an instance of the {@link MoveTarget}
+	 *
+	 * @param type type of the target
+	 * @param x X coordinate or fraction of the horizontal space
+	 * @param y Y coordinate or fraction of the vertical space
+	 */
+	private MoveTarget(int type, float x, float y) {
+		this.type = type;
+		this.x = x;
+		this.y = y;
+	}
+
+	/**
+	 * Creates the target, which moves the top-left corner of the view to the position
+	 *
+	 * @param context context the view is running in
+	 * @param x X coordinate within the parent container in density-independent pixels
+	 * @param y Y coordinate within the parent container in density-independent pixels
+	 * @return move target
+	 */
+	public static MoveTarget position(Context context, float x, float y) {
+		float density = context.getResources().getDisplayMetrics().density;
+		return new MoveTarget(TYPE_POSITION, x * density, y * density);
+	}
+
+	/**
+	 * Creates the target, which moves the top-left corner of the view to the position
+	 * without converting its coordinates
+	 *
+	 * @param x X coordinate within the parent container in actual pixels
+	 * @param y Y coordinate within the parent container in actual pixels
+	 * @return move target
+	 */
+	public static MoveTarget positionInPixels(float x, float y) {
+		return new MoveTarget(TYPE_POSITION, x, y);
+	}
+
+	/**
+	 * Creates the target, which moves the view to the percentage of the space left around
+	 * it within the parent container
+	 *
+	 * @param xPercent percentage of the horizontal space, which is left of the view.
+	 *                 {@code 0} puts the view at the left edge, {@code 100} at the right edge
+	 * @param yPercent percentage of the vertical space, which is above the view.
+	 *                 {@code 0} puts the view at the top edge, {@code 100} at the bottom edge
+	 * @return move target
+	 */
+	public static MoveTarget percentOfParent(float xPercent, float yPercent) {
+		return new MoveTarget(TYPE_FRACTION, xPercent / 100.0f, yPercent / 100.0f);
+	}
+
+	/**
+	 * Returns the target, which moves the view to the anchor of its parent container
+	 * <p>
+	 * The targets of the anchors are created once and shared
+	 *
+	 * @param anchor anchor of the parent container
+	 * @return move target
+	 */
+	public static MoveTarget anchor(MoveAnchor anchor) {
+		return ANCHOR_TARGETS[anchor.ordinal()];
+	}
+
+	/**
+	 * Creates the targets of all the anchors
+	 *
+	 * @return targets of the anchors, indexed by the anchor ordinal
+	 */
+	private static MoveTarget[] createAnchorTargets() {
+		MoveAnchor[] anchors = MoveAnchor.values();
+		MoveTarget[] targets = new MoveTarget[anchors.length];
+		for (MoveAnchor anchor : anchors) {
+			targets[anchor.ordinal()] = new MoveTarget(TYPE_FRACTION, anchor.getXFraction(), anchor.getYFraction());
+		}
+		return targets;
+	}
+
+	/**
+	 * Calculates the left position the view is moved to
+	 *
+	 * @param left current left position of the view within its parent container in actual pixels
+	 * @param width width of the view
+	 * @param parentWidth width of the parent container
+	 * @return left position of the view at the end of the move in actual pixels
+	 */
+	public float resolveLeft(float left, int width, int parentWidth) {
+		return resolve(x, left, parentWidth - width);
+	}
+
+	/**
+	 * Calculates the top position the view is moved to
+	 *
+	 * @param top current top position of the view within its parent container in actual pixels
+	 * @param height height of the view
+	 * @param parentHeight height of the parent container
+	 * @return top position of the view at the end of the move in actual pixels
+	 */
+	public float resolveTop(float top, int height, int parentHeight) {
+		return resolve(y, top, parentHeight - height);
+	}
+
+	/**
+	 * Calculates the position the view is moved to along one axis
+	 * <p>
+	 * The fractions are rounded to the whole pixels
+	 *
+	 * @param value coordinate or fraction of the space
+	 * @param position current position of the view
+	 * @param space space left around the view
+	 * @return position of the view at the end of the move
+	 */
+	private float resolve(float value, float position, int space) {
+		if (Float.isNaN(value)) {
+			return position;
+		}
+		return type == TYPE_FRACTION ? Math.round(value * space) : value;
+	}
+
+	/**
+	 * Returns the string representation of the target
+	 *
+	 * @return string representation of the target
+	 */
+	@Override
+	public String toString() {
+		return (type == TYPE_FRACTION ? "MoveTarget{xFraction=" : "MoveTarget{x=") + x
+				+ (type == TYPE_FRACTION ? ", yFraction=" : ", y=") + y + "}";
+	}
+
+}
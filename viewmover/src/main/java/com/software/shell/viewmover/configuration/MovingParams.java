@@ -19,19 +19,18 @@
 package com.software.shell.viewmover.configuration;
 
 import android.content.Context;
-import android.util.Log;
 import android.view.animation.Interpolator;
-import com.software.shell.uitools.convert.DensityConverter;
+import com.software.shell.viewmover.logging.ViewMoverLog;
 
 /**
  * Entity class, which contains such moving parameters like
  * X-, Y-axis etc.
  *
  * @author shell
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
-public class MovingParams {
+public class MovingParams extends ReadableMovingParams {
 
 	/**
 	 * Logging tag
@@ -41,12 +40,12 @@ public class MovingParams {
 	/**
 	 * Move animation duration, which is used by default
 	 */
-	private static final long DEFAULT_ANIMATION_DURATION = 500L;
+	static final long DEFAULT_ANIMATION_DURATION = 500L;
 
 	/**
 	 * Context the view is running in
 	 */
-	private final Context context;
+	private Context context;
 
 	/**
 	 * An X-axis delta in actual pixels
@@ -78,6 +77,27 @@ public class MovingParams {
 	 */
 	private Interpolator animationInterpolator;
 
+	/**
+	 * Whether the view is rendered into a hardware layer while moving
+	 * <p>
+	 * By default is {@code false}
+	 */
+	private boolean hardwareLayerEnabled;
+
+	/**
+	 * Snapping policy the destination of the move is adjusted by
+	 * <p>
+	 * By default is not set and is {@code null}
+	 */
+	private SnapPolicy snapPolicy;
+
+	/**
+	 * Absolute destination of the move
+	 * <p>
+	 * By default is not set and is {@code null}, so the deltas are used
+	 */
+	private MoveTarget target;
+
 	/**
 	 * Creates and instance of the {@link MovingParams}
 	 *
@@ -98,9 +118,9 @@ public class MovingParams {
 		this.yAxisDelta = dpToPx(yAxisDelta);
 		this.animationDuration = animationDuration;
 		this.animationInterpolator = animationInterpolator;
-		Log.v(LOG_TAG, String.format("Moving params initialized with values: xAxisDelta = %s, yAxisDelta = %s," +
-				"animationDuration = %s, animation interpolator is an instance of %s", getXAxisDelta(),
-				getYAxisDelta(), getAnimationDuration(), getAnimationInterpolator().getClass().getSimpleName()));
+		ViewMoverLog.v(LOG_TAG, "Moving params initialized with values: xAxisDelta = %s, yAxisDelta = %s, " +
+				"animationDuration = %s, animation interpolator = %s", getXAxisDelta(), getYAxisDelta(),
+				getAnimationDuration(), getAnimationInterpolator());
 	}
 
 	/**
@@ -120,8 +140,8 @@ public class MovingParams {
 		this.xAxisDelta = dpToPx(xAxisDelta);
 		this.yAxisDelta = dpToPx(yAxisDelta);
 		this.animationDuration = animationDuration;
-		Log.v(LOG_TAG, String.format("Moving params initialized with values: xAxisDelta = %s, yAxisDelta = %s," +
-						"animationDuration = %s", getXAxisDelta(), getYAxisDelta(), getAnimationDuration()));
+		ViewMoverLog.v(LOG_TAG, "Moving params initialized with values: xAxisDelta = %s, yAxisDelta = %s, " +
+				"animationDuration = %s", getXAxisDelta(), getYAxisDelta(), getAnimationDuration());
 	}
 
 	/**
@@ -139,25 +159,137 @@ public class MovingParams {
 		this.context = context;
 		this.xAxisDelta = dpToPx(xAxisDelta);
 		this.yAxisDelta = dpToPx(yAxisDelta);
-		Log.v(LOG_TAG, String.format("Moving params initialized with values: xAxisDelta = %s, yAxisDelta = %s,",
-				getXAxisDelta(), getYAxisDelta()));
+		ViewMoverLog.v(LOG_TAG, "Moving params initialized with values: xAxisDelta = %s, yAxisDelta = %s",
+				getXAxisDelta(), getYAxisDelta());
+	}
+
+	/**
+	 * Creates an instance of the {@link MovingParams} with zero deltas
+	 *
+	 * @param context context the view is running in. May be {@code null} if the
+	 *                density-independent values are never converted
+	 */
+	MovingParams(Context context) {
+		this.context = context;
+	}
+
+	/**
+	 * Creates an instance of the {@link MovingParams} with the deltas in actual pixels
+	 * <p>
+	 * Unlike the constructors, does not convert the deltas, so no display metrics are read.
+	 * Is the fast path for the deltas, which are in actual pixels already
+	 *
+	 * @param context context the view is running in
+	 * @param xAxisDelta X-axis delta in actual pixels.
+	 *                   Positive value means that view is moving right.
+	 *                   Negative value means that view is moving left
+	 * @param yAxisDelta Y-axis delta in actual pixels.
+	 *                   Positive value means that view is moving down.
+	 *                   Negative value means that view is moving up
+	 * @return moving params
+	 */
+	public static MovingParams createInPixels(Context context, float xAxisDelta, float yAxisDelta) {
+		MovingParams params = new MovingParams(context);
+		params.xAxisDelta = xAxisDelta;
+		params.yAxisDelta = yAxisDelta;
+		return params;
+	}
+
+	/**
+	 * Creates an instance of the {@link MovingParams} with the deltas in actual pixels
+	 * <p>
+	 * Unlike the constructors, does not convert the deltas
+	 *
+	 * @param context context the view is running in
+	 * @param xAxisDelta X-axis delta in actual pixels.
+	 *                   Positive value means that view is moving right.
+	 *                   Negative value means that view is moving left
+	 * @param yAxisDelta Y-axis delta in actual pixels.
+	 *                   Positive value means that view is moving down.
+	 *                   Negative value means that view is moving up
+	 * @param animationDuration move animation duration
+	 * @param animationInterpolator move animation interpolator
+	 * @return moving params
+	 */
+	public static MovingParams createInPixels(Context context, float xAxisDelta, float yAxisDelta,
+	                                          long animationDuration, Interpolator animationInterpolator) {
+		MovingParams params = createInPixels(context, xAxisDelta, yAxisDelta);
+		params.animationDuration = animationDuration;
+		params.animationInterpolator = animationInterpolator;
+		return params;
+	}
+
+	/**
+	 * Creates an instance of the {@link MovingParams} by cloning it
+	 *
+	 * @param params moving params, which cloning is performed of
+	 */
+	public MovingParams(ReadableMovingParams params) {
+		this.context = params.getContext();
+		this.xAxisDelta = params.getXAxisDelta();
+		this.yAxisDelta = params.getYAxisDelta();
+		this.animationDuration = params.getAnimationDuration();
+		this.animationInterpolator = params.getAnimationInterpolator();
+		this.hardwareLayerEnabled = params.isHardwareLayerEnabled();
+		this.snapPolicy = params.getSnapPolicy();
+		this.target = params.getTarget();
+		ViewMoverLog.v(LOG_TAG, "Cloned moving params initialized with values: xAxisDelta = %s, yAxisDelta = %s, " +
+				"animationDuration = %s, animation interpolator = %s", getXAxisDelta(), getYAxisDelta(),
+				getAnimationDuration(), getAnimationInterpolator());
 	}
 
 	/**
 	 * Creates an instance of the {@link MovingParams} by cloning it
+	 * <p>
+	 * Is kept for the binary compatibility with the code compiled against 1.0.0
 	 *
 	 * @param params moving params, which cloning is performed of
 	 */
 	public MovingParams(MovingParams params) {
+		this((ReadableMovingParams) params);
+	}
+
+	/**
+	 * Copies the values of another {@link MovingParams} into this one
+	 * <p>
+	 * Unlike the cloning constructor, does not allocate a new object, so the same
+	 * instance can be reused for several moves
+	 *
+	 * @param params moving params, which values are copied of
+	 */
+	public void set(ReadableMovingParams params) {
 		this.context = params.getContext();
 		this.xAxisDelta = params.getXAxisDelta();
 		this.yAxisDelta = params.getYAxisDelta();
 		this.animationDuration = params.getAnimationDuration();
 		this.animationInterpolator = params.getAnimationInterpolator();
-		Log.v(LOG_TAG, String.format("Cloned moving params initialized with values: xAxisDelta = %s, yAxisDelta = " +
-						"%s, animationDuration = %s, animation interpolator is an instance of %s", getXAxisDelta(),
-				getYAxisDelta(), getAnimationDuration(), getAnimationInterpolator() == null ?
-						"null" : getAnimationInterpolator().getClass().getSimpleName()));
+		this.hardwareLayerEnabled = params.isHardwareLayerEnabled();
+		this.snapPolicy = params.getSnapPolicy();
+		this.target = params.getTarget();
+	}
+
+	/**
+	 * Adds the deltas to the X- and Y-axis deltas of the moving params
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels to be added
+	 * @param yAxisDelta Y-axis delta in actual pixels to be added
+	 */
+	public void addDeltas(float xAxisDelta, float yAxisDelta) {
+		this.xAxisDelta += xAxisDelta;
+		this.yAxisDelta += yAxisDelta;
+	}
+
+	/**
+	 * Checks whether the moving params can be changed after they are created
+	 * <p>
+	 * Immutable moving params are safe to be shared across threads and views
+	 *
+	 * @return true if the moving params can not be changed, otherwise false
+	 * @see ImmutableMovingParams
+	 */
+	@Override
+	public boolean isImmutable() {
+		return false;
 	}
 
 	/**
@@ -165,6 +297,7 @@ public class MovingParams {
 	 *
 	 * @return context the view is running in
 	 */
+	@Override
 	Context getContext() {
 		return context;
 	}
@@ -174,6 +307,7 @@ public class MovingParams {
 	 *
 	 * @return X-axis delta in actual pixels
 	 */
+	@Override
 	public float getXAxisDelta() {
 		return xAxisDelta;
 	}
@@ -185,7 +319,16 @@ public class MovingParams {
 	 */
 	public void setXAxisDelta(float xAxisDelta) {
 		this.xAxisDelta = dpToPx(xAxisDelta);
-		Log.v(LOG_TAG, "Moving Params xAxisDelta set to: " + getXAxisDelta());
+		ViewMoverLog.v(LOG_TAG, "Moving Params xAxisDelta set to: %s", getXAxisDelta());
+	}
+
+	/**
+	 * Sets an X-axis delta without converting it
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 */
+	public void setXAxisDeltaInPixels(float xAxisDelta) {
+		this.xAxisDelta = xAxisDelta;
 	}
 
 	/**
@@ -193,6 +336,7 @@ public class MovingParams {
 	 *
 	 * @return Y-axis delta in actual pixels
 	 */
+	@Override
 	public float getYAxisDelta() {
 		return yAxisDelta;
 	}
@@ -204,7 +348,16 @@ public class MovingParams {
 	 */
 	public void setYAxisDelta(float yAxisDelta) {
 		this.yAxisDelta = dpToPx(yAxisDelta);
-		Log.v(LOG_TAG, "Moving Params yAxisDelta set to: " + getYAxisDelta());
+		ViewMoverLog.v(LOG_TAG, "Moving Params yAxisDelta set to: %s", getYAxisDelta());
+	}
+
+	/**
+	 * Sets an Y-axis delta without converting it
+	 *
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 */
+	public void setYAxisDeltaInPixels(float yAxisDelta) {
+		this.yAxisDelta = yAxisDelta;
 	}
 
 	/**
@@ -212,6 +365,7 @@ public class MovingParams {
 	 *
 	 * @return move animation duration in ms
 	 */
+	@Override
 	public long getAnimationDuration() {
 		return animationDuration;
 	}
@@ -221,18 +375,141 @@ public class MovingParams {
 	 *
 	 * @return move animation interpolator
 	 */
+	@Override
 	public Interpolator getAnimationInterpolator() {
 		return animationInterpolator;
 	}
 
+	/**
+	 * Makes the view move like it is pulled by a damped spring
+	 * <p>
+	 * Replaces the move animation interpolator with the {@link SpringInterpolator} and
+	 * the move animation duration with the spring settle duration, so the duration does
+	 * not need to be guessed for the move distance. The deltas remain unchanged. If the
+	 * spring bounces over the parent container bounds, the view stops at the bounds
+	 *
+	 * @param stiffness stiffness of the spring in 1/s^2. Must be positive
+	 * @param dampingRatio damping ratio of the spring. {@code 1} means critical damping,
+	 *                     lower values make the spring bounce. Must be positive
+	 */
+	public void setSpring(float stiffness, float dampingRatio) {
+		SpringInterpolator interpolator = SpringInterpolator.obtain(stiffness, dampingRatio);
+		this.animationInterpolator = interpolator;
+		this.animationDuration = interpolator.getSettleDuration();
+		ViewMoverLog.v(LOG_TAG, "Moving params spring set with duration: %s", getAnimationDuration());
+	}
+
+	/**
+	 * Makes the view fling with the initial velocity, which is slowed down by friction
+	 * <p>
+	 * Replaces the X- and Y-axis deltas with the distance the view travels until it stops,
+	 * the move animation interpolator with the {@link FlingInterpolator} and the move
+	 * animation duration with the time it takes the view to stop
+	 *
+	 * @param xAxisVelocity X-axis velocity in density-independent pixels per second.
+	 *                      Positive value means that view is moving right
+	 * @param yAxisVelocity Y-axis velocity in density-independent pixels per second.
+	 *                      Positive value means that view is moving down
+	 * @param friction friction coefficient in 1/s. Higher values make the view stop sooner.
+	 *                 Must be positive
+	 */
+	public void setFling(float xAxisVelocity, float yAxisVelocity, float friction) {
+		float xVelocity = dpToPx(xAxisVelocity);
+		float yVelocity = dpToPx(yAxisVelocity);
+		FlingInterpolator interpolator = FlingInterpolator.obtain(friction,
+				FlingInterpolator.calculateDuration(xVelocity, yVelocity, friction));
+		this.xAxisDelta = interpolator.getTravelledDistance(xVelocity);
+		this.yAxisDelta = interpolator.getTravelledDistance(yVelocity);
+		this.animationDuration = interpolator.getDuration();
+		this.animationInterpolator = interpolator;
+		ViewMoverLog.v(LOG_TAG, "Moving params fling set with values: xAxisDelta = %s, yAxisDelta = %s, " +
+				"animationDuration = %s", getXAxisDelta(), getYAxisDelta(), getAnimationDuration());
+	}
+
+	/**
+	 * Checks whether the view is rendered into a hardware layer while moving
+	 *
+	 * @return true if the view is rendered into a hardware layer while moving, otherwise false
+	 */
+	@Override
+	public boolean isHardwareLayerEnabled() {
+		return hardwareLayerEnabled;
+	}
+
+	/**
+	 * Sets whether the view is rendered into a hardware layer while moving
+	 * <p>
+	 * The view is rendered into the layer once and the layer is reused for every frame
+	 * of the move instead of redrawing the view. Has effect on
+	 * {@link android.os.Build.VERSION_CODES#HONEYCOMB} and higher only
+	 *
+	 * @param hardwareLayerEnabled true if the view must be rendered into a hardware layer
+	 *                             while moving, otherwise false
+	 */
+	public void setHardwareLayerEnabled(boolean hardwareLayerEnabled) {
+		this.hardwareLayerEnabled = hardwareLayerEnabled;
+	}
+
+	/**
+	 * Returns the snapping policy the destination of the move is adjusted by
+	 *
+	 * @return snapping policy, or {@code null} if the destination is not snapped
+	 */
+	@Override
+	public SnapPolicy getSnapPolicy() {
+		return snapPolicy;
+	}
+
+	/**
+	 * Sets the snapping policy the destination of the move is adjusted by
+	 * <p>
+	 * The destination is snapped before it is verified against the parent container bounds,
+	 * so the view is moved straight to the snapped position. Is ignored by the path moves
+	 * and the drags
+	 *
+	 * @param snapPolicy snapping policy, or {@code null} if the destination must not be snapped
+	 */
+	public void setSnapPolicy(SnapPolicy snapPolicy) {
+		this.snapPolicy = snapPolicy;
+	}
+
+	/**
+	 * Returns the absolute destination of the move
+	 *
+	 * @return absolute destination of the move, or {@code null} if the deltas are used
+	 */
+	@Override
+	public MoveTarget getTarget() {
+		return target;
+	}
+
+	/**
+	 * Sets the absolute destination of the move
+	 * <p>
+	 * If the target is set, the deltas are ignored and are calculated from the geometry of
+	 * the view captured when the move starts. Is ignored by the path moves and the drags
+	 *
+	 * @param target absolute destination of the move, or {@code null} if the deltas must be used
+	 */
+	public void setTarget(MoveTarget target) {
+		this.target = target;
+	}
+
 	/**
 	 * Converts the density-independent value into density-dependent one
+	 * <p>
+	 * The display density is read of the display metrics of the context resources, so the
+	 * conversion follows the configuration changes. The setters in actual pixels skip it
 	 *
 	 * @param dp density-independent value
 	 * @return density-dependent value
 	 */
 	private float dpToPx(float dp) {
-		return DensityConverter.dpToPx(getContext(), dp);
+		if (getContext() == null) {
+			throw new IllegalStateException("Unable to convert density-independent pixels. " +
+					"Moving params have no context");
+		}
+		return dp * getContext().getResources().getDisplayMetrics().density;
 	}
 
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 23:52:37
+ */
+
+package com.software.shell.viewmover.configuration;
+
+import android.content.Context;
+import android.view.animation.Interpolator;
+
+/**
+ * Read-only moving params, which the view movers accept
+ * <p>
+ * Is the common base type of the mutable {@link MovingParams} and the
+ * {@link ImmutableMovingParams}, so the view movers read the params the same way
+ * regardless of whether they can be changed
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public abstract class ReadableMovingParams {
+
+	/**
+	 * Creates an instance of the {@link ReadableMovingParams}
+	 * <p>
+	 * Is package-private, so the moving params can be implemented within the
+	 * configuration package only
+	 */
+	ReadableMovingParams() {
+	}
+
+	/**
+	 * Returns a context the view is running in
+	 *
+	 * @return context the view is running in, or {@code null} if the moving params
+	 *         keep no context
+	 */
+	Context getContext() {
+		return null;
+	}
+
+	/**
+	 * Returns an X-axis delta in actual pixels
+	 *
+	 * @return X-axis delta in actual pixels
+	 */
+	public abstract float getXAxisDelta();
+
+	/**
+	 * Returns an Y-axis delta in actual pixels
+	 *
+	 * @return Y-axis delta in actual pixels
+	 */
+	public abstract float getYAxisDelta();
+
+	/**
+	 * Returns the move animation duration in ms
+	 *
+	 * @return move animation duration in ms
+	 */
+	public abstract long getAnimationDuration();
+
+	/**
+	 * Returns move animation interpolator
+	 *
+	 * @return move animation interpolator
+	 */
+	public abstract Interpolator getAnimationInterpolator();
+
+	/**
+	 * Checks whether the view is rendered into a hardware layer while moving
+	 *
+	 * @return true if the view is rendered into a hardware layer while moving, otherwise false
+	 */
+	public abstract boolean isHardwareLayerEnabled();
+
+	/**
+	 * Returns the snapping policy the destination of the move is adjusted by
+	 *
+	 * @return snapping policy, or {@code null} if the destination is not snapped
+	 */
+	public abstract SnapPolicy getSnapPolicy();
+
+	/**
+	 * Returns the absolute destination of the move
+	 *
+	 * @return absolute destination of the move, or {@code null} if the deltas are used
+	 */
+	public abstract MoveTarget getTarget();
+
+	/**
+	 * Checks whether the moving params can be changed after they are created
+	 * <p>
+	 * Immutable moving params are safe to be shared across threads and views
+	 *
+	 * @return true if the moving params can not be changed, otherwise false
+	 * @see ImmutableMovingParams
+	 */
+	public abstract boolean isImmutable();
+
+}
@@ -0,0 +1,375 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 22:04:12
+ */
+
+package com.software.shell.viewmover.configuration;
+
+import android.content.Context;
+
+import java.util.Arrays;
+
+/**
+ * Snapping policy, which adjusts the destination of the move to the grid or to the
+ * nearest magnetic anchor
+ * <p>
+ * The destination is the position of the top-left corner of the view within its parent
+ * container in actual pixels. If there is an anchor within the magnetic radius of the
+ * destination, the view is moved to the nearest one. Otherwise each of the coordinates is
+ * rounded to the nearest grid line, if the grid is set. If the magnetic radius is set as well,
+ * the coordinate is snapped only when the grid line is within the radius
+ * <p>
+ * The anchors are bucketed into a hash grid with the cells of the magnetic radius size once,
+ * when the policy is built, so the nearest anchor is found by scanning the anchors of the
+ * nine cells around the destination, regardless of the total number of the anchors.
+ * The policy is immutable and can be shared across threads and views
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public final class SnapPolicy {
+
+	/**
+	 * Value returned by {@link #findAnchor(float, float)} if there is no anchor within
+	 * the magnetic radius
+	 */
+	public static final int NO_ANCHOR = -1;
+
+	/**
+	 * Pitch of the grid in actual pixels, or {@code zero} if the grid is not set
+	 */
+	private final float gridPitch;
+
+	/**
+	 * Magnetic radius in actual pixels, or {@code zero} if the radius is not set
+	 */
+	private final float magneticRadius;
+
+	/**
+	 * X coordinates of the anchors in actual pixels
+	 */
+	private final float[] anchorX;
+
+	/**
+	 * Y coordinates of the anchors in actual pixels
+	 */
+	private final float[] anchorY;
+
+	/**
+	 * Index of the first anchor of each bucket within {@link #bucketAnchors}. Has one more
+	 * element, which is the total number of the anchors
+	 */
+	private final int[] bucketStart;
+
+	/**
+	 * Indexes of the anchors ordered by their buckets
+	 */
+	private final int[] bucketAnchors;
+
+	/**
+	 * Creates an instance of the {@link SnapPolicy}
+	 *
+	 * @param builder builder, which values are copied of
+	 */
+	private SnapPolicy(Builder builder) {
+		this.gridPitch = builder.gridPitch;
+		this.magneticRadius = builder.magneticRadius;
+		this.anchorX = Arrays.copyOf(builder.anchorX, builder.anchorCount);
+		this.anchorY = Arrays.copyOf(builder.anchorY, builder.anchorCount);
+		int bucketCount = 1;
+		while (bucketCount < anchorX.length) {
+			bucketCount <<= 1;
+		}
+		this.bucketStart = new int[bucketCount + 1];
+		this.bucketAnchors = new int[anchorX.length];
+		int[] anchorBuckets = new int[anchorX.length];
+		for (int i = 0; i < anchorX.length; i++) {
+			anchorBuckets[i] = getBucket(getCell(anchorX[i]), getCell(anchorY[i]));
+			bucketStart[anchorBuckets[i] + 1]++;
+		}
+		for (int bucket = 0; bucket < bucketCount; bucket++) {
+			bucketStart[bucket + 1] += bucketStart[bucket];
+		}
+		int[] bucketFill = Arrays.copyOf(bucketStart, bucketCount);
+		for (int i = 0; i < anchorX.length; i++) {
+			bucketAnchors[bucketFill[anchorBuckets[i]]++] = i;
+		}
+	}
+
+	/**
+	 * Returns the pitch of the grid
+	 *
+	 * @return pitch of the grid in actual pixels, or {@code zero} if the grid is not set
+	 */
+	public float getGridPitch() {
+		return gridPitch;
+	}
+
+	/**
+	 * Returns the magnetic radius
+	 *
+	 * @return magnetic radius in actual pixels, or {@code zero} if the radius is not set
+	 */
+	public float getMagneticRadius() {
+		return magneticRadius;
+	}
+
+	/**
+	 * Returns the number of the anchors
+	 *
+	 * @return number of the anchors
+	 */
+	public int getAnchorCount() {
+		return anchorX.length;
+	}
+
+	/**
+	 * Returns the X coordinate of the anchor
+	 *
+	 * @param anchor index of the anchor
+	 * @return X coordinate of the anchor in actual pixels
+	 */
+	public float getAnchorX(int anchor) {
+		return anchorX[anchor];
+	}
+
+	/**
+	 * Returns the Y coordinate of the anchor
+	 *
+	 * @param anchor index of the anchor
+	 * @return Y coordinate of the anchor in actual pixels
+	 */
+	public float getAnchorY(int anchor) {
+		return anchorY[anchor];
+	}
+
+	/**
+	 * Finds the nearest anchor within the magnetic radius of the point
+	 *
+	 * @param x X coordinate of the point in actual pixels
+	 * @param y Y coordinate of the point in actual pixels
+	 * @return index of the nearest anchor, or {@link #NO_ANCHOR} if there is no anchor
+	 *         within the magnetic radius
+	 */
+	public int findAnchor(float x, float y) {
+		if (anchorX.length == 0) {
+			return NO_ANCHOR;
+		}
+		int cellX = getCell(x);
+		int cellY = getCell(y);
+		int nearest = NO_ANCHOR;
+		float nearestDistance = magneticRadius * magneticRadius;
+		for (int neighbourX = cellX - 1; neighbourX <= cellX + 1; neighbourX++) {
+			for (int neighbourY = cellY - 1; neighbourY <= cellY + 1; neighbourY++) {
+				int bucket = getBucket(neighbourX, neighbourY);
+				for (int i = bucketStart[bucket]; i < bucketStart[bucket + 1]; i++) {
+					int anchor = bucketAnchors[i];
+					float dx = anchorX[anchor] - x;
+					float dy = anchorY[anchor] - y;
+					float distance = dx * dx + dy * dy;
+					if (distance < nearestDistance || (distance == nearestDistance && nearest == NO_ANCHOR)) {
+						nearest = anchor;
+						nearestDistance = distance;
+					}
+				}
+			}
+		}
+		return nearest;
+	}
+
+	/**
+	 * Snaps the coordinate to the nearest grid line
+	 * <p>
+	 * If the magnetic radius is set, the coordinate is snapped only when the grid line
+	 * is within the radius
+	 *
+	 * @param value coordinate in actual pixels
+	 * @return snapped coordinate in actual pixels, or the coordinate itself if the grid
+	 *         is not set or the grid line is out of the magnetic radius
+	 */
+	public float snapToGrid(float value) {
+		if (gridPitch <= 0.0f) {
+			return value;
+		}
+		float snapped = Math.round(value / gridPitch) * gridPitch;
+		if (magneticRadius > 0.0f && Math.abs(snapped - value) > magneticRadius) {
+			return value;
+		}
+		return snapped;
+	}
+
+	/**
+	 * Returns the hash grid cell of the coordinate
+	 *
+	 * @param value coordinate in actual pixels
+	 * @return index of the cell
+	 */
+	private int getCell(float value) {
+		return (int) Math.floor(value / magneticRadius);
+	}
+
+	/**
+	 * Returns the bucket the hash grid cell is mapped to
+	 *
+	 * @param cellX X index of the cell
+	 * @param cellY Y index of the cell
+	 * @return index of the bucket
+	 */
+	private int getBucket(int cellX, int cellY) {
+		int hash = cellX * 73856093 ^ cellY * 19349663;
+		return (hash ^ (hash >>> 16)) & (bucketStart.length - 2);
+	}
+
+	/**
+	 * Builder of the {@link SnapPolicy}
+	 * <p>
+	 * The builder is not thread-safe, the policies built by it are
+	 */
+	public static final class Builder {
+
+		/**
+		 * Context, which is used to convert the density-independent values
+		 */
+		private final Context context;
+
+		/**
+		 * Pitch of the grid in actual pixels
+		 */
+		private float gridPitch;
+
+		/**
+		 * Magnetic radius in actual pixels
+		 */
+		private float magneticRadius;
+
+		/**
+		 * X coordinates of the anchors in actual pixels
+		 */
+		private float[] anchorX = new float[4];
+
+		/**
+		 * Y coordinates of the anchors in actual pixels
+		 */
+		private float[] anchorY = new float[4];
+
+		/**
+		 * Number of the anchors
+		 */
+		private int anchorCount;
+
+		/**
+		 * Creates an instance of the {@link Builder}
+		 *
+		 * @param context context, which is used to convert the density-independent values.
+		 *                Is not kept by the built policy
+		 */
+		public Builder(Context context) {
+			this.context = context;
+		}
+
+		/**
+		 * Sets the pitch of the grid
+		 *
+		 * @param gridPitch pitch of the grid in density-independent pixels. The grid is not
+		 *                  used if the pitch is not positive
+		 * @return this builder
+		 */
+		public Builder setGridPitch(float gridPitch) {
+			return setGridPitchInPixels(gridPitch * context.getResources().getDisplayMetrics().density);
+		}
+
+		/**
+		 * Sets the pitch of the grid without converting it
+		 *
+		 * @param gridPitch pitch of the grid in actual pixels. The grid is not used if the
+		 *                  pitch is not positive
+		 * @return this builder
+		 */
+		public Builder setGridPitchInPixels(float gridPitch) {
+			this.gridPitch = Math.max(0.0f, gridPitch);
+			return this;
+		}
+
+		/**
+		 * Sets the magnetic radius
+		 *
+		 * @param magneticRadius magnetic radius in density-independent pixels
+		 * @return this builder
+		 */
+		public Builder setMagneticRadius(float magneticRadius) {
+			return setMagneticRadiusInPixels(magneticRadius * context.getResources().getDisplayMetrics().density);
+		}
+
+		/**
+		 * Sets the magnetic radius without converting it
+		 *
+		 * @param magneticRadius magnetic radius in actual pixels
+		 * @return this builder
+		 */
+		public Builder setMagneticRadiusInPixels(float magneticRadius) {
+			this.magneticRadius = Math.max(0.0f, magneticRadius);
+			return this;
+		}
+
+		/**
+		 * Adds the anchor the view is attracted to
+		 *
+		 * @param x X coordinate of the anchor in density-independent pixels
+		 * @param y Y coordinate of the anchor in density-independent pixels
+		 * @return this builder
+		 */
+		public Builder addAnchor(float x, float y) {
+			float density = context.getResources().getDisplayMetrics().density;
+			return addAnchorInPixels(x * density, y * density);
+		}
+
+		/**
+		 * Adds the anchor the view is attracted to without converting its coordinates
+		 *
+		 * @param x X coordinate of the anchor in actual pixels
+		 * @param y Y coordinate of the anchor in actual pixels
+		 * @return this builder
+		 */
+		public Builder addAnchorInPixels(float x, float y) {
+			if (anchorCount == anchorX.length) {
+				anchorX = Arrays.copyOf(anchorX, anchorCount * 2);
+				anchorY = Arrays.copyOf(anchorY, anchorCount * 2);
+			}
+			anchorX[anchorCount] = x;
+			anchorY[anchorCount] = y;
+			anchorCount++;
+			return this;
+		}
+
+		/**
+		 * Creates the new snapping policy with the values of the builder
+		 * <p>
+		 * The anchors are indexed once here
+		 *
+		 * @return snapping policy
+		 * @throws IllegalStateException if the anchors are added, but the magnetic radius is not set
+		 */
+		public SnapPolicy build() {
+			if (anchorCount > 0 && magneticRadius <= 0.0f) {
+				throw new IllegalStateException("Magnetic radius must be set when the anchors are added");
+			}
+			return new SnapPolicy(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 16:12:39
+ */
+
+package com.software.shell.viewmover.configuration;
+
+import android.view.animation.Interpolator;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Interpolator, which follows the motion of a damped spring
+ * <p>
+ * The spring of unit mass starts at rest at {@code 0} and is pulled towards {@code 1}.
+ * The position is calculated in closed form for every frame, so no state is kept between
+ * the frames. The settle duration, after which the spring stays within
+ * {@link #SETTLE_THRESHOLD} of the end position, is calculated once when the interpolator
+ * is created and must be used as the move duration
+ * <p>
+ * The interpolators obtained by {@link #obtain(float, float)} are cached by the spring
+ * parameters, so the moving params, which set the same spring, share the same interpolator
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class SpringInterpolator implements Interpolator {
+
+	/**
+	 * Distance from the end position, relative to the total distance, within which
+	 * the spring is considered settled
+	 */
+	private static final double SETTLE_THRESHOLD = 0.001;
+
+	/**
+	 * Number of bisection steps used to calculate the settle duration
+	 */
+	private static final int SETTLE_BISECTION_STEPS = 32;
+
+	/**
+	 * Number of the slots in the cache of the interpolators. Must be a power of two
+	 */
+	private static final int CACHE_SIZE = 16;
+
+	/**
+	 * Cache of the interpolators
+	 * <p>
+	 * Each pair of the spring parameters is mapped to a single slot. A new pair replaces
+	 * the one stored in its slot
+	 */
+	private static final AtomicReferenceArray<SpringInterpolator> CACHE =
+			new AtomicReferenceArray<SpringInterpolator>(CACHE_SIZE);
+
+	/**
+	 * Stiffness of the spring in 1/s^2
+	 */
+	private final float stiffness;
+
+	/**
+	 * Undamped angular frequency of the spring in rad/s
+	 */
+	private final double naturalFrequency;
+
+	/**
+	 * Damping ratio of the spring
+	 */
+	private final float dampingRatio;
+
+	/**
+	 * Duration in s, after which the spring is settled
+	 */
+	private final double settleDuration;
+
+	/**
+	 * Creates an instance of the {@link SpringInterpolator}
+	 *
+	 * @param stiffness stiffness of the spring in 1/s^2. Must be positive
+	 * @param dampingRatio damping ratio of the spring. {@code 1} means critical damping,
+	 *                     lower values make the spring bounce, higher values make it
+	 *                     approach the end position slower. Must be positive
+	 */
+	public SpringInterpolator(float stiffness, float dampingRatio) {
+		if (stiffness <= 0.0f || dampingRatio <= 0.0f) {
+			throw new IllegalArgumentException(String.format("Spring stiffness and damping ratio must be " +
+					"positive, but were %s and %s", stiffness, dampingRatio));
+		}
+		this.stiffness = stiffness;
+		this.naturalFrequency = Math.sqrt(stiffness);
+		this.dampingRatio = dampingRatio;
+		this.settleDuration = calculateSettleDuration();
+	}
+
+	/**
+	 * Returns the interpolator of the spring with the parameters
+	 * <p>
+	 * If the interpolator with the same parameters is in the cache, it is returned
+	 * without allocating a new one and calculating its settle duration again.
+	 * Otherwise the new interpolator is created and put into the cache
+	 *
+	 * @param stiffness stiffness of the spring in 1/s^2. Must be positive
+	 * @param dampingRatio damping ratio of the spring. Must be positive
+	 * @return interpolator of the spring
+	 * @see #SpringInterpolator(float, float)
+	 */
+	public static SpringInterpolator obtain(float stiffness, float dampingRatio) {
+		int hash = 31 * Float.floatToIntBits(stiffness) + Float.floatToIntBits(dampingRatio);
+		int slot = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+		SpringInterpolator cached = CACHE.get(slot);
+		if (cached != null && Float.floatToIntBits(cached.stiffness) == Float.floatToIntBits(stiffness)
+				&& Float.floatToIntBits(cached.dampingRatio) == Float.floatToIntBits(dampingRatio)) {
+			return cached;
+		}
+		SpringInterpolator interpolator = new SpringInterpolator(stiffness, dampingRatio);
+		CACHE.set(slot, interpolator);
+		return interpolator;
+	}
+
+	/**
+	 * Returns the duration, after which the spring is settled
+	 *
+	 * @return settle duration in ms
+	 */
+	public long getSettleDuration() {
+		return (long) Math.ceil(settleDuration * 1000.0);
+	}
+
+	/**
+	 * Returns the position of the spring at the elapsed fraction of the settle duration
+	 * <p>
+	 * May return the values greater than {@code 1} if the spring bounces
+	 *
+	 * @param input elapsed fraction of the settle duration
+	 * @return position of the spring
+	 */
+	@Override
+	public float getInterpolation(float input) {
+		if (input >= 1.0f) {
+			return 1.0f;
+		}
+		return (float) (1.0 - displacement(input * settleDuration));
+	}
+
+	/**
+	 * Calculates the displacement of the spring from the end position at the time
+	 *
+	 * @param time time in s
+	 * @return displacement from the end position relative to the total distance
+	 */
+	private double displacement(double time) {
+		double w = naturalFrequency;
+		double z = dampingRatio;
+		if (z < 1.0) {
+			double dampedFrequency = w * Math.sqrt(1.0 - z * z);
+			return Math.exp(-z * w * time) * (Math.cos(dampedFrequency * time)
+					+ z * w / dampedFrequency * Math.sin(dampedFrequency * time));
+		} else if (z == 1.0) {
+			return Math.exp(-w * time) * (1.0 + w * time);
+		} else {
+			double root = w * Math.sqrt(z * z - 1.0);
+			double r1 = -z * w + root;
+			double r2 = -z * w - root;
+			return (r2 * Math.exp(r1 * time) - r1 * Math.exp(r2 * time)) / (r2 - r1);
+		}
+	}
+
+	/**
+	 * Calculates the upper limit of the spring displacement at the time
+	 * <p>
+	 * Unlike the displacement itself, decreases monotonically with time
+	 *
+	 * @param time time in s
+	 * @return upper limit of the displacement relative to the total distance
+	 */
+	private double envelope(double time) {
+		double w = naturalFrequency;
+		double z = dampingRatio;
+		if (z < 1.0) {
+			double ratio = z / Math.sqrt(1.0 - z * z);
+			return Math.exp(-z * w * time) * Math.sqrt(1.0 + ratio * ratio);
+		}
+		return Math.abs(displacement(time));
+	}
+
+	/**
+	 * Calculates the time, after which the spring displacement stays within
+	 * {@link #SETTLE_THRESHOLD}
+	 *
+	 * @return settle duration in s
+	 */
+	private double calculateSettleDuration() {
+		double upper = 1.0 / naturalFrequency;
+		while (envelope(upper) > SETTLE_THRESHOLD) {
+			upper *= 2.0;
+		}
+		double lower = 0.0;
+		for (int i = 0; i < SETTLE_BISECTION_STEPS; i++) {
+			double middle = (lower + upper) / 2.0;
+			if (envelope(middle) > SETTLE_THRESHOLD) {
+				lower = middle;
+			} else {
+				upper = middle;
+			}
+		}
+		return upper;
+	}
+
+}
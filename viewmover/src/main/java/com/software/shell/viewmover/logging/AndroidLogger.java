@@ -0,0 +1,61 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 09:14:03
+ */
+
+package com.software.shell.viewmover.logging;
+
+import android.util.Log;
+
+/**
+ * {@link Logger} implementation, which writes the messages into the {@link android.util.Log}
+ * <p>
+ * Is used by default
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class AndroidLogger implements Logger {
+
+	/**
+	 * Always returns {@code true}, leaving the level filtering to {@link ViewMoverLog}
+	 * <p>
+	 * {@link android.util.Log#isLoggable(String, int)} is not used, since it rejects
+	 * the tags longer than 23 characters on the older platforms
+	 *
+	 * @param tag logging tag
+	 * @param level logging level
+	 * @return {@code true}
+	 */
+	@Override
+	public boolean isLoggable(String tag, int level) {
+		return true;
+	}
+
+	/**
+	 * Writes the message into the {@link android.util.Log}
+	 *
+	 * @param level logging level, one of the {@link android.util.Log} priority constants
+	 * @param tag logging tag
+	 * @param message message to be logged
+	 */
+	@Override
+	public void log(int level, String tag, String message) {
+		Log.println(level, tag, message);
+	}
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 09:12:41
+ */
+
+package com.software.shell.viewmover.logging;
+
+/**
+ * Logger interface, which receives the log messages of the library
+ * <p>
+ * Can be set through {@link ViewMoverLog#setLogger(Logger)} to redirect
+ * the library logs into a custom destination
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public interface Logger {
+
+	/**
+	 * Checks whether the messages of the specified level must be logged
+	 * <p>
+	 * Is called before the message is built, so the message is not formatted
+	 * when {@code false} is returned
+	 *
+	 * @param tag logging tag
+	 * @param level logging level, one of the {@link android.util.Log} priority constants
+	 * @return true if the messages of the specified level must be logged, otherwise false
+	 */
+	boolean isLoggable(String tag, int level);
+
+	/**
+	 * Logs the message
+	 *
+	 * @param level logging level, one of the {@link android.util.Log} priority constants
+	 * @param tag logging tag
+	 * @param message message to be logged
+	 */
+	void log(int level, String tag, String message);
+
+}
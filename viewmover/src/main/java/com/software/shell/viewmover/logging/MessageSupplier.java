@@ -0,0 +1,40 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 09:15:27
+ */
+
+package com.software.shell.viewmover.logging;
+
+/**
+ * Supplier of the log message
+ * <p>
+ * Is used to defer building the message until it is known, that the message is
+ * actually going to be logged
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public interface MessageSupplier {
+
+	/**
+	 * Builds the log message
+	 *
+	 * @return log message
+	 */
+	String getMessage();
+
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 09:18:56
+ */
+
+package com.software.shell.viewmover.logging;
+
+import android.util.Log;
+import com.software.shell.viewmover.BuildConfig;
+
+/**
+ * Logging facade of the library
+ * <p>
+ * Verbose messages are formatted only after the level check passes, so the disabled
+ * messages cost neither formatting nor boxing of the arguments. Verbose logging can be
+ * switched off at build time through the {@code VERBOSE_LOGGING} build config field:
+ * when it is {@code false} (release builds) the verbose methods are compiled into no-ops
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public final class ViewMoverLog {
+
+	/**
+	 * Build-time switch of the verbose logging
+	 * <p>
+	 * Is a compile-time constant, so the {@code if (ViewMoverLog.VERBOSE)} blocks
+	 * are removed from the bytecode when it is {@code false}
+	 */
+	public static final boolean VERBOSE = BuildConfig.VERBOSE_LOGGING;
+
+	/**
+	 * Logger, which receives the messages
+	 * <p>
+	 * By default an instance of the {@link AndroidLogger}
+	 */
+	private static volatile Logger logger = new AndroidLogger();
+
+	/**
+	 * Minimum level of the messages to be logged
+	 * <p>
+	 * By default set to {@link android.util.Log#VERBOSE}
+	 */
+	private static volatile int level = Log.VERBOSE;
+
+	/**
+	 * Prevents the instantiation of the utility class
+	 */
+	private ViewMoverLog() {
+	}
+
+	/**
+	 * Returns the logger, which receives the messages
+	 *
+	 * @return logger, which receives the messages
+	 */
+	public static Logger getLogger() {
+		return logger;
+	}
+
+	/**
+	 * Sets the logger, which receives the messages
+	 *
+	 * @param logger logger, which receives the messages. Passing {@code null}
+	 *               restores the {@link AndroidLogger}
+	 */
+	public static void setLogger(Logger logger) {
+		ViewMoverLog.logger = logger == null ? new AndroidLogger() : logger;
+	}
+
+	/**
+	 * Returns the minimum level of the messages to be logged
+	 *
+	 * @return minimum level of the messages to be logged
+	 */
+	public static int getLevel() {
+		return level;
+	}
+
+	/**
+	 * Sets the minimum level of the messages to be logged
+	 *
+	 * @param level minimum level of the messages to be logged, one of the
+	 *              {@link android.util.Log} priority constants
+	 */
+	public static void setLevel(int level) {
+		ViewMoverLog.level = level;
+	}
+
+	/**
+	 * Checks whether the messages of the specified level are logged
+	 *
+	 * @param tag logging tag
+	 * @param level logging level
+	 * @return true if the messages of the specified level are logged, otherwise false
+	 */
+	public static boolean isLoggable(String tag, int level) {
+		return level >= ViewMoverLog.level && logger.isLoggable(tag, level);
+	}
+
+	/**
+	 * Checks whether the verbose messages are logged
+	 *
+	 * @param tag logging tag
+	 * @return true if verbose logging is compiled in and enabled, otherwise false
+	 */
+	public static boolean isVerboseLoggable(String tag) {
+		return VERBOSE && isLoggable(tag, Log.VERBOSE);
+	}
+
+	/**
+	 * Logs the verbose message
+	 *
+	 * @param tag logging tag
+	 * @param message message to be logged
+	 */
+	public static void v(String tag, String message) {
+		if (isVerboseLoggable(tag)) {
+			logger.log(Log.VERBOSE, tag, message);
+		}
+	}
+
+	/**
+	 * Logs the verbose message, built by the supplier
+	 * <p>
+	 * The supplier is called only if the message is going to be logged
+	 *
+	 * @param tag logging tag
+	 * @param supplier supplier of the message to be logged
+	 */
+	public static void v(String tag, MessageSupplier supplier) {
+		if (isVerboseLoggable(tag)) {
+			logger.log(Log.VERBOSE, tag, supplier.getMessage());
+		}
+	}
+
+	/**
+	 * Formats and logs the verbose message
+	 *
+	 * @param tag logging tag
+	 * @param format message format
+	 * @param arg format argument
+	 */
+	public static void v(String tag, String format, int arg) {
+		if (isVerboseLoggable(tag)) {
+			logger.log(Log.VERBOSE, tag, String.format(format, arg));
+		}
+	}
+
+	/**
+	 * Formats and logs the verbose message
+	 *
+	 * @param tag logging tag
+	 * @param format message format
+	 * @param arg format argument
+	 */
+	public static void v(String tag, String format, float arg) {
+		if (isVerboseLoggable(tag)) {
+			logger.log(Log.VERBOSE, tag, String.format(format, arg));
+		}
+	}
+
+	/**
+	 * Formats and logs the verbose message
+	 *
+	 * @param tag logging tag
+	 * @param format message format
+	 * @param arg format argument
+	 */
+	public static void v(String tag, String format, Object arg) {
+		if (isVerboseLoggable(tag)) {
+			logger.log(Log.VERBOSE, tag, String.format(format, arg));
+		}
+	}
+
+	/**
+	 * Formats and logs the verbose message
+	 *
+	 * @param tag logging tag
+	 * @param format message format
+	 * @param arg1 first format argument
+	 * @param arg2 second format argument
+	 */
+	public static void v(String tag, String format, int arg1, int arg2) {
+		if (isVerboseLoggable(tag)) {
+			logger.log(Log.VERBOSE, tag, String.format(format, arg1, arg2));
+		}
+	}
+
+	/**
+	 * Formats and logs the verbose message
+	 *
+	 * @param tag logging tag
+	 * @param format message format
+	 * @param arg1 first format argument
+	 * @param arg2 second format argument
+	 */
+	public static void v(String tag, String format, float arg1, float arg2) {
+		if (isVerboseLoggable(tag)) {
+			logger.log(Log.VERBOSE, tag, String.format(format, arg1, arg2));
+		}
+	}
+
+	/**
+	 * Formats and logs the verbose message
+	 *
+	 * @param tag logging tag
+	 * @param format message format
+	 * @param arg1 first format argument
+	 * @param arg2 second format argument
+	 * @param arg3 third format argument
+	 */
+	public static void v(String tag, String format, float arg1, float arg2, long arg3) {
+		if (isVerboseLoggable(tag)) {
+			logger.log(Log.VERBOSE, tag, String.format(format, arg1, arg2, arg3));
+		}
+	}
+
+	/**
+	 * Formats and logs the verbose message
+	 *
+	 * @param tag logging tag
+	 * @param format message format
+	 * @param arg1 first format argument
+	 * @param arg2 second format argument
+	 * @param arg3 third format argument
+	 * @param arg4 fourth format argument
+	 */
+	public static void v(String tag, String format, float arg1, float arg2, long arg3, Object arg4) {
+		if (isVerboseLoggable(tag)) {
+			logger.log(Log.VERBOSE, tag, String.format(format, arg1, arg2, arg3, arg4));
+		}
+	}
+
+	/**
+	 * Formats and logs the verbose message
+	 *
+	 * @param tag logging tag
+	 * @param format message format
+	 * @param arg1 first format argument
+	 * @param arg2 second format argument
+	 * @param arg3 third format argument
+	 * @param arg4 fourth format argument
+	 */
+	public static void v(String tag, String format, int arg1, int arg2, int arg3, int arg4) {
+		if (isVerboseLoggable(tag)) {
+			logger.log(Log.VERBOSE, tag, String.format(format, arg1, arg2, arg3, arg4));
+		}
+	}
+
+	/**
+	 * Formats and logs the verbose message
+	 *
+	 * @param tag logging tag
+	 * @param format message format
+	 * @param arg1 first format argument
+	 * @param arg2 second format argument
+	 * @param arg3 third format argument
+	 * @param arg4 fourth format argument
+	 */
+	public static void v(String tag, String format, float arg1, float arg2, float arg3, float arg4) {
+		if (isVerboseLoggable(tag)) {
+			logger.log(Log.VERBOSE, tag, String.format(format, arg1, arg2, arg3, arg4));
+		}
+	}
+
+	/**
+	 * Logs the warning message
+	 *
+	 * @param tag logging tag
+	 * @param message message to be logged
+	 */
+	public static void w(String tag, String message) {
+		if (isLoggable(tag, Log.WARN)) {
+			logger.log(Log.WARN, tag, message);
+		}
+	}
+
+	/**
+	 * Formats and logs the warning message
+	 *
+	 * @param tag logging tag
+	 * @param format message format
+	 * @param arg format argument
+	 */
+	public static void w(String tag, String format, int arg) {
+		if (isLoggable(tag, Log.WARN)) {
+			logger.log(Log.WARN, tag, String.format(format, arg));
+		}
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 20:07:16
+ */
+
+package com.software.shell.viewmover.logging;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Trace;
+import com.software.shell.viewmover.BuildConfig;
+
+/**
+ * Tracing facade of the library
+ * <p>
+ * Emits the named sections around the phases of the moves, which are shown in the
+ * systrace and Perfetto traces. Tracing is switched on at build time through the
+ * {@code TRACE_SECTIONS} build config field, set by the {@code VIEW_MOVER_TRACE_SECTIONS}
+ * Gradle property. When it is {@code false} the {@code if (ViewMoverTrace.ENABLED)} blocks
+ * are removed from the bytecode. Sections are emitted on
+ * {@link android.os.Build.VERSION_CODES#JELLY_BEAN_MR2} and higher only
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public final class ViewMoverTrace {
+
+	/**
+	 * Build-time switch of the trace sections
+	 * <p>
+	 * Is a compile-time constant, so the {@code if (ViewMoverTrace.ENABLED)} blocks
+	 * are removed from the bytecode when it is {@code false}
+	 */
+	public static final boolean ENABLED = BuildConfig.TRACE_SECTIONS;
+
+	/**
+	 * Section of the moving params verification against the parent container bounds
+	 */
+	public static final String SECTION_VALIDATE = "ViewMover#validate";
+
+	/**
+	 * Section of the move start, including the animation setup
+	 */
+	public static final String SECTION_START = "ViewMover#start";
+
+	/**
+	 * Section of the view position update on a frame of the move
+	 */
+	public static final String SECTION_FRAME = "ViewMover#frame";
+
+	/**
+	 * Section of the final view position change, including the layout params update
+	 */
+	public static final String SECTION_COMMIT = "ViewMover#commit";
+
+	/**
+	 * Prevents the instantiation of the utility class
+	 */
+	private ViewMoverTrace() {
+	}
+
+	/**
+	 * Begins the trace section on the current thread
+	 * <p>
+	 * Must be followed by the {@link #endSection()} on the same thread
+	 *
+	 * @param name name of the section
+	 */
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+	public static void beginSection(String name) {
+		if (ENABLED && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
+			Trace.beginSection(name);
+		}
+	}
+
+	/**
+	 * Ends the last trace section begun on the current thread
+	 */
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+	public static void endSection() {
+		if (ENABLED && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
+			Trace.endSection();
+		}
+	}
+
+}
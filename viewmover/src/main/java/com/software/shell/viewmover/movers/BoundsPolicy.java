@@ -0,0 +1,46 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 16:58:12
+ */
+
+package com.software.shell.viewmover.movers;
+
+/**
+ * Policies of handling the moves, which would move the view out of its parent container
+ * <p>
+ * Set through {@link ViewMover#setBoundsPolicy(BoundsPolicy)}
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public enum BoundsPolicy {
+
+	/**
+	 * The axis delta, which would move the view out of its parent container, is discarded
+	 * and the view is not moved along that axis
+	 * <p>
+	 * Is used by default
+	 */
+	REJECT,
+
+	/**
+	 * The axis delta, which would move the view out of its parent container, is reduced
+	 * to the maximum permissible one, so the view is moved exactly to the parent container edge
+	 */
+	CLAMP
+
+}
@@ -0,0 +1,437 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 21:58:12
+ */
+
+package com.software.shell.viewmover.movers;
+
+import java.util.Arrays;
+
+/**
+ * Group of the sibling views, which must not overlap each other when moved
+ * <p>
+ * Is joined by the view movers of the sibling views through
+ * {@link ViewMover#setCollisionGroup(CollisionGroup)}. The bounds of the views are kept in
+ * a uniform grid of square cells, so checking the move looks at the views in the cells
+ * the move passes through only, instead of all the views of the group. The bounds of the
+ * view are updated when its move starts, when it is dragged and when its move is cancelled.
+ * While the view is being moved, its destination is kept in the grid, so the other views
+ * do not move into it
+ * <p>
+ * The cell size should be close to the size of the views. The group is not synchronized
+ * and must be used on the UI thread only
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public final class CollisionGroup {
+
+	/**
+	 * Initial number of the view slots
+	 */
+	private static final int INITIAL_CAPACITY = 8;
+
+	/**
+	 * Size of the grid cell in actual pixels
+	 */
+	private final int cellSize;
+
+	/**
+	 * Left bounds of the views in the slots
+	 */
+	private int[] lefts = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Top bounds of the views in the slots
+	 */
+	private int[] tops = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Right bounds of the views in the slots
+	 */
+	private int[] rights = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Bottom bounds of the views in the slots
+	 */
+	private int[] bottoms = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Whether the slots are used by the views
+	 */
+	private boolean[] used = new boolean[INITIAL_CAPACITY];
+
+	/**
+	 * Stamps of the last query, which checked the view in the slot
+	 * <p>
+	 * Prevent the view, which spans several cells, from being checked more than once per query
+	 */
+	private int[] queryStamps = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Stamp of the current query
+	 */
+	private int queryStamp;
+
+	/**
+	 * Number of the slots ever used
+	 */
+	private int slotCount;
+
+	/**
+	 * Number of the views in the group
+	 */
+	private int size;
+
+	/**
+	 * Number of the grid columns
+	 */
+	private int columns;
+
+	/**
+	 * Number of the grid rows
+	 */
+	private int rows;
+
+	/**
+	 * Slots of the views, which overlap the cells, stored row by row
+	 */
+	private int[][] cells = new int[0][];
+
+	/**
+	 * Numbers of the views, which overlap the cells
+	 */
+	private int[] cellCounts = new int[0];
+
+	/**
+	 * Creates an instance of the {@link CollisionGroup}
+	 *
+	 * @param cellSize size of the grid cell in actual pixels. Must be positive
+	 */
+	public CollisionGroup(int cellSize) {
+		if (cellSize <= 0) {
+			throw new IllegalArgumentException("Collision grid cell size must be positive, but was " + cellSize);
+		}
+		this.cellSize = cellSize;
+	}
+
+	/**
+	 * Returns the number of the views in the group
+	 *
+	 * @return number of the views in the group
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Adds the view to the group
+	 *
+	 * @param left left bound of the view in actual pixels
+	 * @param top top bound of the view in actual pixels
+	 * @param right right bound of the view in actual pixels
+	 * @param bottom bottom bound of the view in actual pixels
+	 * @return slot of the view
+	 */
+	int add(int left, int top, int right, int bottom) {
+		int slot = 0;
+		while (slot < slotCount && used[slot]) {
+			slot++;
+		}
+		if (slot == slotCount) {
+			if (slotCount == used.length) {
+				int capacity = slotCount * 2;
+				lefts = Arrays.copyOf(lefts, capacity);
+				tops = Arrays.copyOf(tops, capacity);
+				rights = Arrays.copyOf(rights, capacity);
+				bottoms = Arrays.copyOf(bottoms, capacity);
+				used = Arrays.copyOf(used, capacity);
+				queryStamps = Arrays.copyOf(queryStamps, capacity);
+			}
+			slotCount++;
+		}
+		used[slot] = true;
+		size++;
+		setBounds(slot, left, top, right, bottom);
+		insert(slot);
+		return slot;
+	}
+
+	/**
+	 * Updates the bounds of the view
+	 *
+	 * @param slot slot of the view
+	 * @param left left bound of the view in actual pixels
+	 * @param top top bound of the view in actual pixels
+	 * @param right right bound of the view in actual pixels
+	 * @param bottom bottom bound of the view in actual pixels
+	 */
+	void update(int slot, int left, int top, int right, int bottom) {
+		if (getColumn(left) == getColumn(lefts[slot]) && getColumn(right - 1) == getColumn(rights[slot] - 1)
+				&& getRow(top) == getRow(tops[slot]) && getRow(bottom - 1) == getRow(bottoms[slot] - 1)) {
+			setBounds(slot, left, top, right, bottom);
+			return;
+		}
+		erase(slot);
+		setBounds(slot, left, top, right, bottom);
+		insert(slot);
+	}
+
+	/**
+	 * Removes the view from the group
+	 *
+	 * @param slot slot of the view
+	 */
+	void remove(int slot) {
+		erase(slot);
+		used[slot] = false;
+		size--;
+	}
+
+	/**
+	 * Calculates the fraction of the move, which the view can make before it touches
+	 * any other view of the group
+	 * <p>
+	 * The views, which the view overlaps already, are ignored, so the view can leave them
+	 *
+	 * @param slot slot of the moved view
+	 * @param left left bound of the view in actual pixels
+	 * @param top top bound of the view in actual pixels
+	 * @param right right bound of the view in actual pixels
+	 * @param bottom bottom bound of the view in actual pixels
+	 * @param xAxisDelta X-axis delta of the move in actual pixels
+	 * @param yAxisDelta Y-axis delta of the move in actual pixels
+	 * @return fraction of the move from {@code 0} to {@code 1}
+	 */
+	float getAllowedFraction(int slot, int left, int top, int right, int bottom, float xAxisDelta, float yAxisDelta) {
+		if (columns == 0 || rows == 0) {
+			return 1.0f;
+		}
+		int firstColumn = Math.min(getColumn(left + Math.min(0.0f, xAxisDelta)), columns - 1);
+		int lastColumn = Math.min(getColumn(right - 1 + Math.max(0.0f, xAxisDelta)), columns - 1);
+		int firstRow = Math.min(getRow(top + Math.min(0.0f, yAxisDelta)), rows - 1);
+		int lastRow = Math.min(getRow(bottom - 1 + Math.max(0.0f, yAxisDelta)), rows - 1);
+		queryStamp++;
+		float fraction = 1.0f;
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int column = firstColumn; column <= lastColumn; column++) {
+				int cell = row * columns + column;
+				int[] cellSlots = cells[cell];
+				for (int i = 0; i < cellCounts[cell]; i++) {
+					int other = cellSlots[i];
+					if (other == slot || queryStamps[other] == queryStamp) {
+						continue;
+					}
+					queryStamps[other] = queryStamp;
+					fraction = Math.min(fraction, getContactFraction(other, left, top, right, bottom,
+							xAxisDelta, yAxisDelta));
+				}
+			}
+		}
+		return fraction;
+	}
+
+	/**
+	 * Checks whether the view overlaps any other view of the group
+	 *
+	 * @param slot slot of the view
+	 * @param left left bound of the view in actual pixels
+	 * @param top top bound of the view in actual pixels
+	 * @param right right bound of the view in actual pixels
+	 * @param bottom bottom bound of the view in actual pixels
+	 * @return true if the view overlaps any other view of the group, otherwise false
+	 */
+	boolean intersects(int slot, int left, int top, int right, int bottom) {
+		if (columns == 0 || rows == 0) {
+			return false;
+		}
+		int lastColumn = Math.min(getColumn(right - 1), columns - 1);
+		int lastRow = Math.min(getRow(bottom - 1), rows - 1);
+		for (int row = Math.min(getRow(top), rows - 1); row <= lastRow; row++) {
+			for (int column = Math.min(getColumn(left), columns - 1); column <= lastColumn; column++) {
+				int cell = row * columns + column;
+				int[] cellSlots = cells[cell];
+				for (int i = 0; i < cellCounts[cell]; i++) {
+					int other = cellSlots[i];
+					if (other != slot && left < rights[other] && right > lefts[other]
+							&& top < bottoms[other] && bottom > tops[other]) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Calculates the fraction of the move, at which the moved view touches the other view
+	 *
+	 * @param other slot of the other view
+	 * @param left left bound of the moved view in actual pixels
+	 * @param top top bound of the moved view in actual pixels
+	 * @param right right bound of the moved view in actual pixels
+	 * @param bottom bottom bound of the moved view in actual pixels
+	 * @param xAxisDelta X-axis delta of the move in actual pixels
+	 * @param yAxisDelta Y-axis delta of the move in actual pixels
+	 * @return fraction of the move, or {@code 1} if the views do not collide during the move
+	 */
+	private float getContactFraction(int other, int left, int top, int right, int bottom,
+	                                 float xAxisDelta, float yAxisDelta) {
+		float enterX;
+		float exitX;
+		if (xAxisDelta > 0.0f) {
+			enterX = (lefts[other] - right) / xAxisDelta;
+			exitX = (rights[other] - left) / xAxisDelta;
+		} else if (xAxisDelta < 0.0f) {
+			enterX = (rights[other] - left) / xAxisDelta;
+			exitX = (lefts[other] - right) / xAxisDelta;
+		} else if (left < rights[other] && right > lefts[other]) {
+			enterX = -Float.MAX_VALUE;
+			exitX = Float.MAX_VALUE;
+		} else {
+			return 1.0f;
+		}
+		float enterY;
+		float exitY;
+		if (yAxisDelta > 0.0f) {
+			enterY = (tops[other] - bottom) / yAxisDelta;
+			exitY = (bottoms[other] - top) / yAxisDelta;
+		} else if (yAxisDelta < 0.0f) {
+			enterY = (bottoms[other] - top) / yAxisDelta;
+			exitY = (tops[other] - bottom) / yAxisDelta;
+		} else if (top < bottoms[other] && bottom > tops[other]) {
+			enterY = -Float.MAX_VALUE;
+			exitY = Float.MAX_VALUE;
+		} else {
+			return 1.0f;
+		}
+		float enter = Math.max(enterX, enterY);
+		float exit = Math.min(exitX, exitY);
+		if (enter >= exit || enter >= 1.0f || exit <= 0.0f || enter < 0.0f) {
+			return 1.0f;
+		}
+		return enter;
+	}
+
+	/**
+	 * Stores the bounds of the view
+	 *
+	 * @param slot slot of the view
+	 * @param left left bound of the view in actual pixels
+	 * @param top top bound of the view in actual pixels
+	 * @param right right bound of the view in actual pixels
+	 * @param bottom bottom bound of the view in actual pixels
+	 */
+	private void setBounds(int slot, int left, int top, int right, int bottom) {
+		lefts[slot] = left;
+		tops[slot] = top;
+		rights[slot] = Math.max(left, right);
+		bottoms[slot] = Math.max(top, bottom);
+	}
+
+	/**
+	 * Adds the view into the cells it overlaps, growing the grid if needed
+	 *
+	 * @param slot slot of the view
+	 */
+	private void insert(int slot) {
+		int lastColumn = getColumn(rights[slot] - 1);
+		int lastRow = getRow(bottoms[slot] - 1);
+		if (lastColumn >= columns || lastRow >= rows) {
+			resize(Math.max(lastColumn + 1, columns), Math.max(lastRow + 1, rows));
+			return;
+		}
+		for (int row = getRow(tops[slot]); row <= lastRow; row++) {
+			for (int column = getColumn(lefts[slot]); column <= lastColumn; column++) {
+				int cell = row * columns + column;
+				if (cells[cell] == null) {
+					cells[cell] = new int[2];
+				} else if (cellCounts[cell] == cells[cell].length) {
+					cells[cell] = Arrays.copyOf(cells[cell], cellCounts[cell] * 2);
+				}
+				cells[cell][cellCounts[cell]++] = slot;
+			}
+		}
+	}
+
+	/**
+	 * Removes the view from the cells it overlaps
+	 *
+	 * @param slot slot of the view
+	 */
+	private void erase(int slot) {
+		int lastColumn = Math.min(getColumn(rights[slot] - 1), columns - 1);
+		int lastRow = Math.min(getRow(bottoms[slot] - 1), rows - 1);
+		for (int row = getRow(tops[slot]); row <= lastRow; row++) {
+			for (int column = getColumn(lefts[slot]); column <= lastColumn; column++) {
+				int cell = row * columns + column;
+				int[] cellSlots = cells[cell];
+				for (int i = 0; i < cellCounts[cell]; i++) {
+					if (cellSlots[i] == slot) {
+						cellSlots[i] = cellSlots[--cellCounts[cell]];
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Rebuilds the grid with the new dimensions
+	 * <p>
+	 * The dimensions are at least doubled, so the grid is rebuilt a few times only
+	 *
+	 * @param minColumns minimum number of the columns
+	 * @param minRows minimum number of the rows
+	 */
+	private void resize(int minColumns, int minRows) {
+		columns = Math.max(minColumns, columns * 2);
+		rows = Math.max(minRows, rows * 2);
+		cells = new int[columns * rows][];
+		cellCounts = new int[columns * rows];
+		for (int slot = 0; slot < slotCount; slot++) {
+			if (used[slot]) {
+				insert(slot);
+			}
+		}
+	}
+
+	/**
+	 * Returns the grid column of the X coordinate
+	 * <p>
+	 * The coordinates left of the grid are mapped to the first column
+	 *
+	 * @param x X coordinate in actual pixels
+	 * @return grid column
+	 */
+	private int getColumn(float x) {
+		return Math.max(0, (int) (x / cellSize));
+	}
+
+	/**
+	 * Returns the grid row of the Y coordinate
+	 * <p>
+	 * The coordinates above the grid are mapped to the first row
+	 *
+	 * @param y Y coordinate in actual pixels
+	 * @return grid row
+	 */
+	private int getRow(float y) {
+		return Math.max(0, (int) (y / cellSize));
+	}
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 11:06:48
+ */
+
+package com.software.shell.viewmover.movers;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.Choreographer;
+import android.view.View;
+import com.software.shell.viewmover.configuration.ReadableMovingParams;
+import com.software.shell.viewmover.logging.ViewMoverLog;
+import com.software.shell.viewmover.logging.ViewMoverTrace;
+
+/**
+ * View mover class, which moves the view by updating its visual position on every frame
+ * <p>
+ * The position is advanced from the {@link android.view.Choreographer} frame callback, so
+ * the view is drawn at its actual position during the whole move and no position change
+ * is needed when the move completes
+ * <p>
+ * The destination of the move in progress can be changed by {@link #retarget(ReadableMovingParams)}.
+ * The view then continues from its current position with its current velocity, following
+ * a cubic Hermite curve, which ends at the new destination with zero velocity. The path move
+ * is retargeted the same way, leaving the path
+ * <p>
+ * Used for {@code TargetApi} {@link android.os.Build.VERSION_CODES#JELLY_BEAN} and higher
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+class FrameViewMover extends PositionViewMover {
+
+	/**
+	 * Logging tag
+	 */
+	private static final String LOG_TAG = String.format("[view-mover][%s]", FrameViewMover.class.getSimpleName());
+
+	/**
+	 * Frame callback, which advances the view position
+	 */
+	private final Choreographer.FrameCallback frameCallback = new Choreographer.FrameCallback() {
+		@Override
+		public void doFrame(long frameTimeNanos) {
+			if (ViewMoverTrace.ENABLED) {
+				ViewMoverTrace.beginSection(ViewMoverTrace.SECTION_FRAME);
+			}
+			onFrame(frameTimeNanos);
+			if (ViewMoverTrace.ENABLED) {
+				ViewMoverTrace.endSection();
+			}
+		}
+	};
+
+	/**
+	 * Stepping of the current move
+	 */
+	private final MoveStepper stepper = new MoveStepper();
+
+	/**
+	 * Whether the view is being currently moved
+	 */
+	private boolean moving;
+
+	/**
+	 * Creates an instance of the {@link com.software.shell.viewmover.movers.FrameViewMover}
+	 *
+	 * @param view view to be moved
+	 */
+	FrameViewMover(View view) {
+		super(view);
+	}
+
+	/**
+	 * Captures the start position of the view and schedules the first frame of the move
+	 *
+	 * @param params verified moving params
+	 */
+	@Override
+	void startMove(ReadableMovingParams params) {
+		stepper.start(this, params);
+		moving = true;
+		Choreographer.getInstance().postFrameCallback(frameCallback);
+	}
+
+	/**
+	 * Changes the destination of the move in progress
+	 * <p>
+	 * The view continues from its current position with the velocity measured on the last
+	 * frames and reaches the new destination in the move duration of the moving params. If the
+	 * view is not being moved, the call is the same as {@link #move(ReadableMovingParams)}
+	 *
+	 * @param params params of the move action. The deltas are relative to the current
+	 *               visual position of the view
+	 * @return id of the retargeted move. The move in progress is reported as cancelled
+	 */
+	@Override
+	public long retarget(ReadableMovingParams params) {
+		if (!moving) {
+			return move(params);
+		}
+		ReadableMovingParams verified = getVerifiedMovingParams(params);
+		if (verified.isHardwareLayerEnabled()) {
+			promoteToHardwareLayer();
+		}
+		updateCollisionBounds(verified.getXAxisDelta(), verified.getYAxisDelta());
+		stepper.retarget(this, verified);
+		ViewMoverLog.v(LOG_TAG, "Move retargeted at: delta X-axis = %s, delta Y-axis = %s, velocity X = %s, " +
+				"velocity Y = %s", stepper.getXAxisDelta(), stepper.getYAxisDelta(), stepper.getStartVelocityX(),
+				stepper.getStartVelocityY());
+		long moveId = supersedeMove();
+		recordMoveStarted(verified);
+		return moveId;
+	}
+
+	/**
+	 * Removes the frame callback, leaving the view at its current position
+	 */
+	@Override
+	void stopMove() {
+		Choreographer.getInstance().removeFrameCallback(frameCallback);
+		moving = false;
+	}
+
+	/**
+	 * Removes the frame callback. The view is at its visual position already
+	 */
+	@Override
+	void stopMoveAtCurrentPosition() {
+		stopMove();
+	}
+
+	/**
+	 * Checks whether the view is being currently moved
+	 *
+	 * @return true if the view is being currently moved, otherwise false
+	 */
+	@Override
+	boolean isMoving() {
+		return moving;
+	}
+
+	/**
+	 * Is called on every frame while the view is being moved
+	 * <p>
+	 * Moves the view to the position, calculated by the interpolator for the elapsed time and
+	 * clamped to the parent container bounds, and schedules the next frame until the move completes
+	 *
+	 * @param frameTimeNanos time of the frame in ns
+	 */
+	private void onFrame(long frameTimeNanos) {
+		float fraction = stepper.getFraction(frameTimeNanos);
+		stepper.step(fraction);
+		getView().setX(stepper.getX());
+		getView().setY(stepper.getY());
+		stepper.recordFrame(getMoveStats(), frameTimeNanos);
+		if (fraction < 1.0f) {
+			Choreographer.getInstance().postFrameCallback(frameCallback);
+		} else {
+			moving = false;
+			ViewMoverLog.v(LOG_TAG, "Move completed at: x = %s, y = %s", getView().getX(), getView().getY());
+			onMoveEnded();
+		}
+	}
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 18:06:53
+ */
+
+package com.software.shell.viewmover.movers;
+
+/**
+ * Immutable snapshot of the view geometry within its parent container, which is used
+ * to plan the moves off the UI thread
+ * <p>
+ * Is taken on the UI thread by {@link ViewMover#snapshotGeometry()} and is safe to be
+ * read from any thread afterwards. Keeps the bounds policy of the view mover at the time
+ * of the snapshot, so the plans follow the same policy as the moves
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public final class GeometrySnapshot {
+
+	/**
+	 * View mover, which took the snapshot
+	 */
+	private final ViewMover mover;
+
+	/**
+	 * Copy of the view geometry, which is never changed
+	 */
+	private final ViewGeometry geometry;
+
+	/**
+	 * Bounds policy of the view mover at the time of the snapshot
+	 */
+	private final BoundsPolicy boundsPolicy;
+
+	/**
+	 * Creates an instance of the {@link com.software.shell.viewmover.movers.GeometrySnapshot}
+	 *
+	 * @param mover view mover, which takes the snapshot
+	 * @param geometry geometry of the view, which is copied
+	 * @param boundsPolicy bounds policy of the view mover
+	 */
+	GeometrySnapshot(ViewMover mover, ViewGeometry geometry, BoundsPolicy boundsPolicy) {
+		this.mover = mover;
+		this.geometry = new ViewGeometry(geometry);
+		this.boundsPolicy = boundsPolicy;
+	}
+
+	/**
+	 * Returns the view mover, which took the snapshot
+	 *
+	 * @return view mover, which took the snapshot
+	 */
+	ViewMover getMover() {
+		return mover;
+	}
+
+	/**
+	 * Returns the copy of the view geometry
+	 *
+	 * @return view geometry
+	 */
+	ViewGeometry getGeometry() {
+		return geometry;
+	}
+
+	/**
+	 * Returns the bounds policy of the view mover at the time of the snapshot
+	 *
+	 * @return bounds policy
+	 */
+	public BoundsPolicy getBoundsPolicy() {
+		return boundsPolicy;
+	}
+
+	/**
+	 * Returns the left position of the view relative to its parent container
+	 *
+	 * @return left position of the view
+	 */
+	public int getLeft() {
+		return geometry.getLeft();
+	}
+
+	/**
+	 * Returns the top position of the view relative to its parent container
+	 *
+	 * @return top position of the view
+	 */
+	public int getTop() {
+		return geometry.getTop();
+	}
+
+	/**
+	 * Returns the width of the view
+	 *
+	 * @return width of the view
+	 */
+	public int getWidth() {
+		return geometry.getWidth();
+	}
+
+	/**
+	 * Returns the height of the view
+	 *
+	 * @return height of the view
+	 */
+	public int getHeight() {
+		return geometry.getHeight();
+	}
+
+	/**
+	 * Returns the visual X position of the view
+	 *
+	 * @return visual X position of the view
+	 */
+	public float getX() {
+		return geometry.getX();
+	}
+
+	/**
+	 * Returns the visual Y position of the view
+	 *
+	 * @return visual Y position of the view
+	 */
+	public float getY() {
+		return geometry.getY();
+	}
+
+	/**
+	 * Returns the width of the parent container
+	 *
+	 * @return width of the parent container
+	 */
+	public int getParentWidth() {
+		return geometry.getParentWidth();
+	}
+
+	/**
+	 * Returns the height of the parent container
+	 *
+	 * @return height of the parent container
+	 */
+	public int getParentHeight() {
+		return geometry.getParentHeight();
+	}
+
+}
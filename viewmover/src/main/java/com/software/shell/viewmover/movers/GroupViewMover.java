@@ -0,0 +1,395 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 11:48:30
+ */
+
+package com.software.shell.viewmover.movers;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.Choreographer;
+import android.view.View;
+import com.software.shell.viewmover.configuration.ReadableMovingParams;
+import com.software.shell.viewmover.logging.ViewMoverLog;
+import com.software.shell.viewmover.logging.ViewMoverTrace;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Mover class, which moves a group of views within their common parent container
+ * <p>
+ * Each view of the group is moved by its own {@link ViewMover}, which is returned by
+ * {@link #getMover(int)}, so the moves of the group are resolved, snapped, verified against
+ * the parent container bounds and the collision group, recorded to the {@link MoveStats} and
+ * reported to the {@link OnMoveListener} the same way as the moves of the single view.
+ * All the views of the group are moved from a single {@link android.view.Choreographer}
+ * frame callback, so their positions are updated together and the parent container is
+ * redrawn once per frame
+ * <p>
+ * Prior to {@link android.os.Build.VERSION_CODES#JELLY_BEAN} each view is moved by its own
+ * {@link ViewMover}, created by {@link ViewMoverFactory#createInstance(android.view.View)}
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class GroupViewMover {
+
+	/**
+	 * Logging tag
+	 */
+	private static final String LOG_TAG = String.format("[view-mover][%s]", GroupViewMover.class.getSimpleName());
+
+	/**
+	 * View movers of the views of the group, in the same order the views were passed to the group
+	 */
+	private final ViewMover[] movers;
+
+	/**
+	 * Frame callback, which advances the views positions
+	 * <p>
+	 * Is {@code null} prior to {@link android.os.Build.VERSION_CODES#JELLY_BEAN}
+	 */
+	private final Choreographer.FrameCallback frameCallback;
+
+	/**
+	 * Whether the frame callback is posted for the next frame
+	 */
+	private boolean framePosted;
+
+	/**
+	 * Creates an instance of the {@link com.software.shell.viewmover.movers.GroupViewMover}
+	 *
+	 * @param views views to be moved. Must have the same parent container
+	 * @throws IllegalArgumentException if the views have different parent containers
+	 */
+	GroupViewMover(Collection<? extends View> views) {
+		View[] groupViews = views.toArray(new View[views.size()]);
+		checkCommonParent(groupViews);
+		movers = new ViewMover[groupViews.length];
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+			ParentSizeCache parentSizeCache = new ParentSizeCache();
+			for (int i = 0; i < groupViews.length; i++) {
+				movers[i] = new MemberViewMover(groupViews[i], parentSizeCache);
+			}
+			frameCallback = createFrameCallback();
+		} else {
+			for (int i = 0; i < groupViews.length; i++) {
+				movers[i] = ViewMoverFactory.createInstance(groupViews[i]);
+			}
+			frameCallback = null;
+		}
+	}
+
+	/**
+	 * Checks that all the views have the same parent container
+	 *
+	 * @param views views of the group
+	 * @throws IllegalArgumentException if the views have different parent containers
+	 */
+	private static void checkCommonParent(View[] views) {
+		for (int i = 1; i < views.length; i++) {
+			if (views[i].getParent() != views[0].getParent()) {
+				throw new IllegalArgumentException(String.format("Views of the group must have the same parent " +
+						"container, but the view %s has a different one", i));
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of views in the group
+	 *
+	 * @return number of views in the group
+	 */
+	public int getViewCount() {
+		return movers.length;
+	}
+
+	/**
+	 * Returns the view mover of the view of the group
+	 * <p>
+	 * Allows to configure the view separately, for example to put it into the collision group,
+	 * and to track its moves by the ids
+	 *
+	 * @param index index of the view, in the same order the views were passed to the group
+	 * @return view mover of the view
+	 */
+	public ViewMover getMover(int index) {
+		return movers[index];
+	}
+
+	/**
+	 * Checks whether any of the views is being currently moved
+	 *
+	 * @return true if any of the views is being currently moved, otherwise false
+	 */
+	public boolean isMoving() {
+		for (ViewMover mover : movers) {
+			if (mover.isMoving()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the policy of handling the moves, which would move the views out of their
+	 * parent container
+	 *
+	 * @return bounds policy of the first view of the group, or {@link BoundsPolicy#REJECT}
+	 *         if the group is empty
+	 */
+	public BoundsPolicy getBoundsPolicy() {
+		return movers.length > 0 ? movers[0].getBoundsPolicy() : BoundsPolicy.REJECT;
+	}
+
+	/**
+	 * Sets the policy of handling the moves, which would move the views out of their
+	 * parent container
+	 * <p>
+	 * The policy is applied to each view of the group separately
+	 *
+	 * @param boundsPolicy bounds policy
+	 */
+	public void setBoundsPolicy(BoundsPolicy boundsPolicy) {
+		for (ViewMover mover : movers) {
+			mover.setBoundsPolicy(boundsPolicy);
+		}
+	}
+
+	/**
+	 * Sets the performance stats the moves of all the views are recorded to
+	 *
+	 * @param moveStats performance stats, or {@code null} to stop recording the moves
+	 * @see ViewMover#setMoveStats(MoveStats)
+	 */
+	public void setMoveStats(MoveStats moveStats) {
+		for (ViewMover mover : movers) {
+			mover.setMoveStats(moveStats);
+		}
+	}
+
+	/**
+	 * Adds the listener of the moves of all the views
+	 * <p>
+	 * The listener is called once per view with the view mover returned by {@link #getMover(int)}
+	 *
+	 * @param listener listener of the moves
+	 */
+	public void addOnMoveListener(OnMoveListener listener) {
+		for (ViewMover mover : movers) {
+			mover.addOnMoveListener(listener);
+		}
+	}
+
+	/**
+	 * Removes the listener of the moves of all the views
+	 *
+	 * @param listener listener of the moves
+	 */
+	public void removeOnMoveListener(OnMoveListener listener) {
+		for (ViewMover mover : movers) {
+			mover.removeOnMoveListener(listener);
+		}
+	}
+
+	/**
+	 * Moves all the views of the group based on the same moving params
+	 * <p>
+	 * The move of each view is handled by its view mover the same way as
+	 * {@link ViewMover#move(ReadableMovingParams)}
+	 *
+	 * @param params params of the move action
+	 */
+	public void move(ReadableMovingParams params) {
+		for (ViewMover mover : movers) {
+			mover.move(params);
+		}
+	}
+
+	/**
+	 * Moves the views of the group based on the per-view moving params
+	 *
+	 * @param params params of the move action for each of the views, in the same order
+	 *               the views were passed to the group
+	 */
+	public void move(List<? extends ReadableMovingParams> params) {
+		if (params.size() != movers.length) {
+			throw new IllegalArgumentException(String.format("Expected %s moving params, but got %s",
+					movers.length, params.size()));
+		}
+		for (int i = 0; i < movers.length; i++) {
+			movers[i].move(params.get(i));
+		}
+	}
+
+	/**
+	 * Cancels the moves of all the views in progress and discards their pending moves
+	 *
+	 * @see ViewMover#cancel()
+	 */
+	public void cancel() {
+		for (ViewMover mover : movers) {
+			mover.cancel();
+		}
+	}
+
+	/**
+	 * Posts the frame callback for the next frame, unless it is posted already
+	 */
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+	private void postFrame() {
+		if (!framePosted) {
+			framePosted = true;
+			Choreographer.getInstance().postFrameCallback(frameCallback);
+		}
+	}
+
+	/**
+	 * Is called on every frame while any of the views is being moved
+	 * <p>
+	 * Advances every view being moved and schedules the next frame until all the moves complete
+	 *
+	 * @param frameTimeNanos time of the frame in ns
+	 */
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+	private void onFrame(long frameTimeNanos) {
+		framePosted = false;
+		for (ViewMover mover : movers) {
+			MemberViewMover member = (MemberViewMover) mover;
+			if (member.moving) {
+				member.onFrame(frameTimeNanos);
+			}
+		}
+		for (ViewMover mover : movers) {
+			if (((MemberViewMover) mover).moving) {
+				postFrame();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Creates the frame callback, which advances the views positions
+	 *
+	 * @return frame callback
+	 */
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+	private Choreographer.FrameCallback createFrameCallback() {
+		return new Choreographer.FrameCallback() {
+			@Override
+			public void doFrame(long frameTimeNanos) {
+				if (ViewMoverTrace.ENABLED) {
+					ViewMoverTrace.beginSection(ViewMoverTrace.SECTION_FRAME);
+				}
+				onFrame(frameTimeNanos);
+				if (ViewMoverTrace.ENABLED) {
+					ViewMoverTrace.endSection();
+				}
+			}
+		};
+	}
+
+	/**
+	 * View mover of the view of the group, which is advanced by the frame callback of the group
+	 * <p>
+	 * Used for {@code TargetApi} {@link android.os.Build.VERSION_CODES#JELLY_BEAN} and higher
+	 */
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+	private final class MemberViewMover extends PositionViewMover {
+
+		/**
+		 * Stepping of the current move
+		 */
+		private final MoveStepper stepper = new MoveStepper();
+
+		/**
+		 * Whether the view is being currently moved
+		 */
+		private boolean moving;
+
+		/**
+		 * Creates an instance of the {@link MemberViewMover}
+		 *
+		 * @param view view to be moved
+		 * @param parentSizeCache cache of the parent container size, shared by the group
+		 */
+		MemberViewMover(View view, ParentSizeCache parentSizeCache) {
+			super(view, parentSizeCache);
+		}
+
+		/**
+		 * Captures the start position of the view and schedules the frame callback of the group
+		 *
+		 * @param params verified moving params
+		 */
+		@Override
+		void startMove(ReadableMovingParams params) {
+			stepper.start(this, params);
+			moving = true;
+			postFrame();
+		}
+
+		/**
+		 * Stops advancing the view, leaving it at its current position
+		 */
+		@Override
+		void stopMove() {
+			moving = false;
+		}
+
+		/**
+		 * Stops advancing the view. The view is at its visual position already
+		 */
+		@Override
+		void stopMoveAtCurrentPosition() {
+			stopMove();
+		}
+
+		/**
+		 * Checks whether the view is being currently moved
+		 *
+		 * @return true if the view is being currently moved, otherwise false
+		 */
+		@Override
+		boolean isMoving() {
+			return moving;
+		}
+
+		/**
+		 * Moves the view to the position, calculated by the interpolator for the elapsed time and
+		 * clamped to the parent container bounds, and completes the move once its duration elapses
+		 *
+		 * @param frameTimeNanos time of the frame in ns
+		 */
+		void onFrame(long frameTimeNanos) {
+			float fraction = stepper.getFraction(frameTimeNanos);
+			stepper.step(fraction);
+			getView().setX(stepper.getX());
+			getView().setY(stepper.getY());
+			stepper.recordFrame(getMoveStats(), frameTimeNanos);
+			if (fraction >= 1.0f) {
+				moving = false;
+				ViewMoverLog.v(LOG_TAG, "Group view move completed at: x = %s, y = %s", getView().getX(),
+						getView().getY());
+				onMoveEnded();
+			}
+		}
+
+	}
+
+}
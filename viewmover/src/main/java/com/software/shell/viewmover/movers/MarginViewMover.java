@@ -18,9 +18,9 @@
 
 package com.software.shell.viewmover.movers;
 
-import android.util.Log;
 import android.view.View;
 import android.view.ViewGroup;
+import com.software.shell.viewmover.logging.ViewMoverLog;
 
 /**
  * View mover class, which is used to move the view, based on the view's margins
@@ -34,7 +34,7 @@ import android.view.ViewGroup;
  * Working as expected with other layouts not guaranteed
  *
  * @author shell
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 class MarginViewMover extends ViewMover {
@@ -55,51 +55,86 @@ class MarginViewMover extends ViewMover {
 
 	/**
 	 * Changes the position of the view, based on view's margins within its parent container
+	 * <p>
+	 * The alignment of the view is checked against the geometry captured when the move started
 	 *
 	 * @param xAxisDelta X-axis delta in actual pixels
 	 * @param yAxisDelta Y-axis delta in actual pixels
 	 */
 	@Override
 	void changeViewPosition(float xAxisDelta, float yAxisDelta) {
+		changeViewPosition(getGeometry(), xAxisDelta, yAxisDelta);
+	}
+
+	/**
+	 * Changes the position of the view, based on view's margins within its parent container
+	 *
+	 * @param geometry geometry of the view, which bounds match the current view margins
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 */
+	void changeViewPosition(ViewGeometry geometry, float xAxisDelta, float yAxisDelta) {
 		ViewGroup.MarginLayoutParams layoutParams = (ViewGroup.MarginLayoutParams) getView().getLayoutParams();
-		if (isViewLeftAligned(layoutParams)) {
+		if (isViewLeftAligned(geometry, layoutParams)) {
 			layoutParams.leftMargin += xAxisDelta;
 		} else {
 			layoutParams.rightMargin -= xAxisDelta;
 		}
-		if (isViewTopAligned(layoutParams)) {
+		if (isViewTopAligned(geometry, layoutParams)) {
 			layoutParams.topMargin += yAxisDelta;
 		} else {
 			layoutParams.bottomMargin -= yAxisDelta;
 		}
-		Log.v(LOG_TAG, String.format("Updated view margins: left = %s, top = %s, right = %s, bottom = %s",
-				layoutParams.leftMargin, layoutParams.topMargin, layoutParams.rightMargin, layoutParams.bottomMargin));
+		ViewMoverLog.v(LOG_TAG, "Updated view margins: left = %s, top = %s, right = %s, bottom = %s",
+				layoutParams.leftMargin, layoutParams.topMargin, layoutParams.rightMargin, layoutParams.bottomMargin);
 		getView().setLayoutParams(layoutParams);
+		MoveStats moveStats = getMoveStats();
+		if (moveStats != null) {
+			moveStats.recordLayoutPass();
+		}
+	}
+
+	/**
+	 * Writes the view margins and offsets the view bounds by the same whole pixels
+	 * <p>
+	 * The margins take effect on the next layout pass only, so the bounds are offset for
+	 * the move, which starts right after, to capture the committed position
+	 *
+	 * @param xAxisDelta X-axis delta of the last frame in actual pixels
+	 * @param yAxisDelta Y-axis delta of the last frame in actual pixels
+	 */
+	@Override
+	void commitCurrentPosition(float xAxisDelta, float yAxisDelta) {
+		changeViewPosition(xAxisDelta, yAxisDelta);
+		getView().offsetLeftAndRight((int) xAxisDelta);
+		getView().offsetTopAndBottom((int) yAxisDelta);
 	}
 
 	/**
 	 * Checks whether view is left aligned
 	 *
+	 * @param geometry geometry of the view
 	 * @param layoutParams view's layout parameters
 	 * @return true if the view is left aligned, otherwise false
 	 */
-	private boolean isViewLeftAligned(ViewGroup.MarginLayoutParams layoutParams) {
-		final int left =  getView().getLeft();
+	private boolean isViewLeftAligned(ViewGeometry geometry, ViewGroup.MarginLayoutParams layoutParams) {
+		final int left = geometry.getLeft();
 		boolean viewLeftAligned = left == 0 || left == layoutParams.leftMargin;
-		Log.v(LOG_TAG, String.format("View is %s aligned", viewLeftAligned ? "LEFT" : "RIGHT"));
+		ViewMoverLog.v(LOG_TAG, "View is %s aligned", viewLeftAligned ? "LEFT" : "RIGHT");
 		return viewLeftAligned;
 	}
 
 	/**
 	 * Checks whether view is top aligned
 	 *
+	 * @param geometry geometry of the view
 	 * @param layoutParams view's layout parameters
 	 * @return true if the view is top aligned, otherwise false
 	 */
-	private boolean isViewTopAligned(ViewGroup.MarginLayoutParams layoutParams) {
-		final int top = getView().getTop();
+	private boolean isViewTopAligned(ViewGeometry geometry, ViewGroup.MarginLayoutParams layoutParams) {
+		final int top = geometry.getTop();
 		boolean viewTopAligned = top == 0 || top == layoutParams.topMargin;
-		Log.v(LOG_TAG, String.format("View is %s aligned", viewTopAligned ? "TOP" : "BOTTOM"));
+		ViewMoverLog.v(LOG_TAG, "View is %s aligned", viewTopAligned ? "TOP" : "BOTTOM");
 		return viewTopAligned;
 	}
 
@@ -107,48 +142,64 @@ class MarginViewMover extends ViewMover {
 	 * Calculates the resulting X coordinate of the view's left bound based on the left
 	 * position of the view relative to its parent container and the X-axis delta
 	 *
+	 * @param geometry geometry of the view, captured when the move started
 	 * @param xAxisDelta X-axis delta in actual pixels
 	 * @return resulting X coordinate of the view's left bound
 	 */
 	@Override
-	int calculateEndLeftBound(float xAxisDelta) {
-		return getView().getLeft() + (int) xAxisDelta;
+	int calculateEndLeftBound(ViewGeometry geometry, float xAxisDelta) {
+		return geometry.getLeft() + (int) xAxisDelta;
 	}
 
 	/**
 	 * Calculates the resulting X coordinate of the view's right bound based on the right
 	 * position of the view relative to its parent container and the X-axis delta
 	 *
+	 * @param geometry geometry of the view, captured when the move started
 	 * @param xAxisDelta X-axis delta in actual pixels
 	 * @return resulting X coordinate of the view's right bound
 	 */
 	@Override
-	int calculateEndRightBound(float xAxisDelta) {
-		return getView().getRight() + (int) xAxisDelta;
+	int calculateEndRightBound(ViewGeometry geometry, float xAxisDelta) {
+		return geometry.getRight() + (int) xAxisDelta;
 	}
 
 	/**
 	 * Calculates the resulting Y coordinate of the view's top bound based on the top
 	 * position of the view relative to its parent container and the Y-axis delta
 	 *
+	 * @param geometry geometry of the view, captured when the move started
 	 * @param yAxisDelta Y-axis delta in actual pixels
 	 * @return resulting Y coordinate of the view's top bound
 	 */
 	@Override
-	int calculateEndTopBound(float yAxisDelta) {
-		return getView().getTop() + (int) yAxisDelta;
+	int calculateEndTopBound(ViewGeometry geometry, float yAxisDelta) {
+		return geometry.getTop() + (int) yAxisDelta;
 	}
 
 	/**
 	 * Calculates the resulting Y coordinate of the view's bottom bound based on the bottom
 	 * position of the view relative to its parent container and the Y-axis delta
 	 *
+	 * @param geometry geometry of the view, captured when the move started
 	 * @param yAxisDelta Y-axis delta in actual pixels
 	 * @return resulting Y coordinate of the view's bottom bound
 	 */
 	@Override
-	int calculateEndBottomBound(float yAxisDelta) {
-		return getView().getBottom() + (int) yAxisDelta;
+	int calculateEndBottomBound(ViewGeometry geometry, float yAxisDelta) {
+		return geometry.getBottom() + (int) yAxisDelta;
+	}
+
+	/**
+	 * Returns the whole pixels of the axis delta, since the view margins are
+	 * changed by whole pixels
+	 *
+	 * @param delta axis delta in actual pixels
+	 * @return whole pixels of the axis delta
+	 */
+	@Override
+	float getAppliedAxisDelta(float delta) {
+		return (int) delta;
 	}
 
 }
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 10:02:17
+ */
+
+package com.software.shell.viewmover.movers;
+
+import android.view.animation.Animation;
+import android.view.animation.Transformation;
+import com.software.shell.viewmover.configuration.MovePath;
+import com.software.shell.viewmover.logging.ViewMoverTrace;
+
+/**
+ * Translate animation, which deltas can be changed after the animation is created
+ * <p>
+ * Unlike {@link android.view.animation.TranslateAnimation} can be reused for
+ * several moves, so no animation object is allocated per move
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+class MoveAnimation extends Animation {
+
+	/**
+	 * X-axis delta in actual pixels
+	 */
+	private float xAxisDelta;
+
+	/**
+	 * Y-axis delta in actual pixels
+	 */
+	private float yAxisDelta;
+
+	/**
+	 * Path the view is moved along
+	 * <p>
+	 * Is {@code null} if the view is moved along the straight line
+	 */
+	private MovePath path;
+
+	/**
+	 * Arc length of the path the view is moved along in actual pixels
+	 */
+	private float pathLength;
+
+	/**
+	 * Point of the path calculated for the current frame
+	 */
+	private final float[] pathPoint = new float[2];
+
+	/**
+	 * Minimum X-axis translation in actual pixels
+	 */
+	private float minXAxisDelta = -Float.MAX_VALUE;
+
+	/**
+	 * Maximum X-axis translation in actual pixels
+	 */
+	private float maxXAxisDelta = Float.MAX_VALUE;
+
+	/**
+	 * Minimum Y-axis translation in actual pixels
+	 */
+	private float minYAxisDelta = -Float.MAX_VALUE;
+
+	/**
+	 * Maximum Y-axis translation in actual pixels
+	 */
+	private float maxYAxisDelta = Float.MAX_VALUE;
+
+	/**
+	 * Performance stats the frames are recorded to
+	 * <p>
+	 * Is {@code null} if the frames are not recorded
+	 */
+	private MoveStats moveStats;
+
+	/**
+	 * Time in ms of the previous frame of the animation
+	 * <p>
+	 * Is negative until the first frame of the animation
+	 */
+	private long lastFrameTime = -1L;
+
+	/**
+	 * X-axis translation applied on the last frame in actual pixels
+	 */
+	private float currentXAxisDelta;
+
+	/**
+	 * Y-axis translation applied on the last frame in actual pixels
+	 */
+	private float currentYAxisDelta;
+
+	/**
+	 * Creates an instance of the {@link com.software.shell.viewmover.movers.MoveAnimation}
+	 */
+	MoveAnimation() {
+		setFillEnabled(true);
+		setFillBefore(false);
+	}
+
+	/**
+	 * Sets the deltas of the animation
+	 * <p>
+	 * Must be called before the animation is started
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 */
+	void setDeltas(float xAxisDelta, float yAxisDelta) {
+		this.xAxisDelta = xAxisDelta;
+		this.yAxisDelta = yAxisDelta;
+		this.currentXAxisDelta = 0.0f;
+		this.currentYAxisDelta = 0.0f;
+	}
+
+	/**
+	 * Sets the path the view is moved along
+	 * <p>
+	 * Must be called before the animation is started. The deltas set by
+	 * {@link #setDeltas(float, float)} are used once the animation completes only
+	 *
+	 * @param path path the view is moved along, or {@code null} to move the view
+	 *             along the straight line
+	 * @param pathLength arc length of the path the view is moved along in actual pixels
+	 */
+	void setPath(MovePath path, float pathLength) {
+		this.path = path;
+		this.pathLength = pathLength;
+	}
+
+	/**
+	 * Sets the performance stats the frames of the animation are recorded to
+	 * <p>
+	 * Must be called before the animation is started
+	 *
+	 * @param moveStats performance stats, or {@code null} if the frames are not recorded
+	 */
+	void setMoveStats(MoveStats moveStats) {
+		this.moveStats = moveStats;
+		this.lastFrameTime = -1L;
+	}
+
+	/**
+	 * Returns the X-axis delta of the animation
+	 *
+	 * @return X-axis delta in actual pixels
+	 */
+	float getXAxisDelta() {
+		return xAxisDelta;
+	}
+
+	/**
+	 * Returns the Y-axis delta of the animation
+	 *
+	 * @return Y-axis delta in actual pixels
+	 */
+	float getYAxisDelta() {
+		return yAxisDelta;
+	}
+
+	/**
+	 * Returns the X-axis translation applied on the last frame of the animation
+	 *
+	 * @return X-axis translation in actual pixels, or {@code zero} before the first frame
+	 */
+	float getCurrentXAxisDelta() {
+		return currentXAxisDelta;
+	}
+
+	/**
+	 * Returns the Y-axis translation applied on the last frame of the animation
+	 *
+	 * @return Y-axis translation in actual pixels, or {@code zero} before the first frame
+	 */
+	float getCurrentYAxisDelta() {
+		return currentYAxisDelta;
+	}
+
+	/**
+	 * Sets the range the translation is clamped to on every frame
+	 * <p>
+	 * Keeps the view within its parent container when the interpolator overshoots,
+	 * like the spring interpolator does
+	 *
+	 * @param minXAxisDelta minimum X-axis translation in actual pixels
+	 * @param maxXAxisDelta maximum X-axis translation in actual pixels
+	 * @param minYAxisDelta minimum Y-axis translation in actual pixels
+	 * @param maxYAxisDelta maximum Y-axis translation in actual pixels
+	 */
+	void setDeltaBounds(float minXAxisDelta, float maxXAxisDelta, float minYAxisDelta, float maxYAxisDelta) {
+		this.minXAxisDelta = minXAxisDelta;
+		this.maxXAxisDelta = maxXAxisDelta;
+		this.minYAxisDelta = minYAxisDelta;
+		this.maxYAxisDelta = maxYAxisDelta;
+	}
+
+	/**
+	 * Records the frame to the performance stats, if any, and calculates the transformation
+	 * of the frame within the {@link ViewMoverTrace#SECTION_FRAME} trace section
+	 *
+	 * @param currentTime time of the frame in ms
+	 * @param outTransformation transformation to be filled
+	 * @return true if the animation is still running, otherwise false
+	 */
+	@Override
+	public boolean getTransformation(long currentTime, Transformation outTransformation) {
+		if (moveStats != null) {
+			moveStats.recordFrame(lastFrameTime < 0L ? -1L : currentTime - lastFrameTime);
+			lastFrameTime = currentTime;
+		}
+		if (ViewMoverTrace.ENABLED) {
+			ViewMoverTrace.beginSection(ViewMoverTrace.SECTION_FRAME);
+		}
+		boolean running = super.getTransformation(currentTime, outTransformation);
+		if (ViewMoverTrace.ENABLED) {
+			ViewMoverTrace.endSection();
+		}
+		return running;
+	}
+
+	/**
+	 * Translates the view proportionally to the interpolated time, either along the straight
+	 * line or along the path
+	 * <p>
+	 * The translation is clamped to the range set by {@link #setDeltaBounds(float, float, float, float)}
+	 *
+	 * @param interpolatedTime interpolated time of the animation
+	 * @param t transformation to be applied
+	 */
+	@Override
+	protected void applyTransformation(float interpolatedTime, Transformation t) {
+		float dx;
+		float dy;
+		if (path != null) {
+			path.getPoint(pathLength * interpolatedTime, pathPoint);
+			dx = pathPoint[0];
+			dy = pathPoint[1];
+		} else {
+			dx = xAxisDelta * interpolatedTime;
+			dy = yAxisDelta * interpolatedTime;
+		}
+		dx = Math.max(minXAxisDelta, Math.min(maxXAxisDelta, dx));
+		dy = Math.max(minYAxisDelta, Math.min(maxYAxisDelta, dy));
+		currentXAxisDelta = dx;
+		currentYAxisDelta = dy;
+		t.getMatrix().setTranslate(dx, dy);
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 11:21:09
+ */
+
+package com.software.shell.viewmover.movers;
+
+/**
+ * Engines, which can be used to move the view
+ * <p>
+ * Passed to {@link ViewMoverFactory#createInstance(android.view.View, MoveEngine)}.
+ * If the engine is not supported by the current {@code BUILD VERSION} the
+ * {@link #ANIMATION} engine is used instead
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public enum MoveEngine {
+
+	/**
+	 * Moves the view with the view animation and changes the view position when
+	 * the animation completes
+	 * <p>
+	 * Supported by all {@code BUILD VERSION}s. Is used by default
+	 */
+	ANIMATION,
+
+	/**
+	 * Moves the view by updating its position on every frame from the
+	 * {@link android.view.Choreographer} frame callback
+	 * <p>
+	 * Supported by {@link android.os.Build.VERSION_CODES#JELLY_BEAN} and higher
+	 */
+	FRAME_CALLBACK,
+
+	/**
+	 * Moves the view by updating its position from the {@link android.animation.ValueAnimator}
+	 * updates. A single value animator is reused by all the moves of the view
+	 * <p>
+	 * Supported by {@link android.os.Build.VERSION_CODES#JELLY_BEAN} and higher
+	 */
+	VALUE_ANIMATOR,
+
+	/**
+	 * Moves the view with the view animation and changes the view position by offsetting
+	 * its bounds, writing the view margins once after a burst of moves
+	 * <p>
+	 * Affects the margin based moving used prior to {@link android.os.Build.VERSION_CODES#JELLY_BEAN}.
+	 * On {@link android.os.Build.VERSION_CODES#JELLY_BEAN} and higher is the same as {@link #ANIMATION},
+	 * since changing the view position there does not request a layout
+	 */
+	LAYOUT_OFFSET,
+
+	/**
+	 * Moves the view with the {@link android.view.ViewPropertyAnimator}, which is run by the
+	 * render thread for the hardware accelerated views, so the move keeps running while the
+	 * UI thread is blocked. The listeners left on the property animator of the view are cleared
+	 * when the move starts, since the render thread refuses the animators with listeners.
+	 * The path moves are performed with the view animation
+	 * <p>
+	 * Supported by {@link android.os.Build.VERSION_CODES#LOLLIPOP} and higher
+	 */
+	RENDER_THREAD
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 18:14:20
+ */
+
+package com.software.shell.viewmover.movers;
+
+import com.software.shell.viewmover.configuration.ImmutableMovingParams;
+
+/**
+ * Immutable plan of the move, which deltas are verified against a {@link GeometrySnapshot}
+ * <p>
+ * Is created by {@link ViewMover#plan(GeometrySnapshot, com.software.shell.viewmover.configuration.ReadableMovingParams)}
+ * on any thread and is committed by {@link ViewMover#commit(MovePlan)} on the UI thread
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public final class MovePlan {
+
+	/**
+	 * Geometry snapshot the plan is verified against
+	 */
+	private final GeometrySnapshot snapshot;
+
+	/**
+	 * Moving params with the verified deltas
+	 */
+	private final ImmutableMovingParams params;
+
+	/**
+	 * Creates an instance of the {@link com.software.shell.viewmover.movers.MovePlan}
+	 *
+	 * @param snapshot geometry snapshot the plan is verified against
+	 * @param params moving params with the verified deltas
+	 */
+	MovePlan(GeometrySnapshot snapshot, ImmutableMovingParams params) {
+		this.snapshot = snapshot;
+		this.params = params;
+	}
+
+	/**
+	 * Returns the geometry snapshot the plan is verified against
+	 *
+	 * @return geometry snapshot
+	 */
+	public GeometrySnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Returns the moving params with the verified deltas
+	 *
+	 * @return verified moving params
+	 */
+	public ImmutableMovingParams getParams() {
+		return params;
+	}
+
+	/**
+	 * Returns the verified X-axis delta
+	 *
+	 * @return X-axis delta in actual pixels
+	 */
+	public float getXAxisDelta() {
+		return params.getXAxisDelta();
+	}
+
+	/**
+	 * Returns the verified Y-axis delta
+	 *
+	 * @return Y-axis delta in actual pixels
+	 */
+	public float getYAxisDelta() {
+		return params.getYAxisDelta();
+	}
+
+	/**
+	 * Checks whether the plan moves the view
+	 *
+	 * @return true if any of the verified deltas is not {@code zero}, otherwise false
+	 */
+	public boolean isMoveNonZero() {
+		return params.getXAxisDelta() != 0.0f || params.getYAxisDelta() != 0.0f;
+	}
+
+}
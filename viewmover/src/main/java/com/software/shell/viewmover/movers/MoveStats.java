@@ -0,0 +1,450 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 19:41:05
+ */
+
+package com.software.shell.viewmover.movers;
+
+import java.util.Arrays;
+
+/**
+ * Performance counters and histograms of the moves
+ * <p>
+ * Is disabled unless set to the view mover by {@link ViewMover#setMoveStats(MoveStats)}.
+ * One instance can be shared by several view movers to aggregate their moves. The stats
+ * are recorded on the UI thread and are not synchronized, so {@link #snapshot()} and
+ * {@link #reset()} must be called on the UI thread as well. The returned {@link Snapshot}
+ * is immutable and can be passed to any thread
+ * <p>
+ * Recording a value costs a field increment, no objects are allocated
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public final class MoveStats {
+
+	/**
+	 * Interval between two frames in ms, above which the frame is considered janky.
+	 * Equals to one and a half of the 60 fps frame interval
+	 */
+	public static final long JANK_FRAME_INTERVAL = 25L;
+
+	/**
+	 * Inclusive upper bounds of the move lateness histogram buckets in ms. The last bucket
+	 * has no upper bound
+	 */
+	private static final long[] LATENESS_BUCKET_BOUNDS = {0L, 8L, 16L, 33L, 66L, 133L, 266L};
+
+	/**
+	 * Inclusive upper bounds of the frame interval histogram buckets in ms. The last bucket
+	 * has no upper bound
+	 */
+	private static final long[] FRAME_INTERVAL_BUCKET_BOUNDS = {8L, 17L, JANK_FRAME_INTERVAL, 33L, 50L, 66L, 100L};
+
+	/**
+	 * Number of the started moves
+	 */
+	private long movesStarted;
+
+	/**
+	 * Number of the moves, which were completed
+	 */
+	private long movesCompleted;
+
+	/**
+	 * Number of the moves, which were cancelled, including the rejected and the zeroed ones
+	 */
+	private long movesCancelled;
+
+	/**
+	 * Number of the moves, which were dropped, since the view was being moved
+	 */
+	private long movesRejected;
+
+	/**
+	 * Number of the moves, which were not performed, since there was no space to move the view
+	 */
+	private long movesZeroed;
+
+	/**
+	 * Number of the moves, which deltas were reduced or discarded along one axis by the bounds checks
+	 */
+	private long movesClamped;
+
+	/**
+	 * Number of the frames rendered while the views were being moved
+	 */
+	private long framesRendered;
+
+	/**
+	 * Number of the frames, which came later than {@link #JANK_FRAME_INTERVAL} after the previous one
+	 */
+	private long jankFrames;
+
+	/**
+	 * Number of the layout passes requested by the moves
+	 */
+	private long layoutPasses;
+
+	/**
+	 * Histogram of the differences between the actual and the requested move durations
+	 */
+	private final long[] latenessHistogram = new long[LATENESS_BUCKET_BOUNDS.length + 1];
+
+	/**
+	 * Histogram of the intervals between the frames of the moves
+	 */
+	private final long[] frameIntervalHistogram = new long[FRAME_INTERVAL_BUCKET_BOUNDS.length + 1];
+
+	/**
+	 * Returns the inclusive upper bounds of the move lateness histogram buckets. The histogram
+	 * has one more bucket, which has no upper bound
+	 *
+	 * @return upper bounds of the buckets in ms
+	 */
+	public static long[] getLatenessBucketBounds() {
+		return LATENESS_BUCKET_BOUNDS.clone();
+	}
+
+	/**
+	 * Returns the inclusive upper bounds of the frame interval histogram buckets. The histogram
+	 * has one more bucket, which has no upper bound
+	 *
+	 * @return upper bounds of the buckets in ms
+	 */
+	public static long[] getFrameIntervalBucketBounds() {
+		return FRAME_INTERVAL_BUCKET_BOUNDS.clone();
+	}
+
+	/**
+	 * Takes the snapshot of the current values
+	 *
+	 * @return immutable snapshot of the current values
+	 */
+	public Snapshot snapshot() {
+		return new Snapshot(this);
+	}
+
+	/**
+	 * Resets all the counters and histograms to {@code zero}
+	 */
+	public void reset() {
+		movesStarted = 0L;
+		movesCompleted = 0L;
+		movesCancelled = 0L;
+		movesRejected = 0L;
+		movesZeroed = 0L;
+		movesClamped = 0L;
+		framesRendered = 0L;
+		jankFrames = 0L;
+		layoutPasses = 0L;
+		Arrays.fill(latenessHistogram, 0L);
+		Arrays.fill(frameIntervalHistogram, 0L);
+	}
+
+	/**
+	 * Records the started move
+	 */
+	void recordMoveStarted() {
+		movesStarted++;
+	}
+
+	/**
+	 * Records the completed move
+	 *
+	 * @param requestedDuration requested duration of the move in ms
+	 * @param actualDuration time passed since the move was started in ms
+	 */
+	void recordMoveCompleted(long requestedDuration, long actualDuration) {
+		movesCompleted++;
+		latenessHistogram[findBucket(LATENESS_BUCKET_BOUNDS, actualDuration - requestedDuration)]++;
+	}
+
+	/**
+	 * Records the cancelled move
+	 */
+	void recordMoveCancelled() {
+		movesCancelled++;
+	}
+
+	/**
+	 * Records the move dropped, since the view was being moved
+	 */
+	void recordMoveRejected() {
+		movesRejected++;
+	}
+
+	/**
+	 * Records the move, which was not performed, since there was no space to move the view
+	 */
+	void recordMoveZeroed() {
+		movesZeroed++;
+	}
+
+	/**
+	 * Records the move, which deltas were reduced or discarded along one axis
+	 */
+	void recordMoveClamped() {
+		movesClamped++;
+	}
+
+	/**
+	 * Records the rendered frame
+	 *
+	 * @param frameInterval interval since the previous frame of the move in ms, or a negative
+	 *                      value if the frame is the first one
+	 */
+	void recordFrame(long frameInterval) {
+		framesRendered++;
+		if (frameInterval < 0L) {
+			return;
+		}
+		if (frameInterval > JANK_FRAME_INTERVAL) {
+			jankFrames++;
+		}
+		frameIntervalHistogram[findBucket(FRAME_INTERVAL_BUCKET_BOUNDS, frameInterval)]++;
+	}
+
+	/**
+	 * Records the layout pass requested by the move
+	 */
+	void recordLayoutPass() {
+		layoutPasses++;
+	}
+
+	/**
+	 * Finds the histogram bucket of the value
+	 *
+	 * @param bounds inclusive upper bounds of the buckets
+	 * @param value value to be recorded
+	 * @return index of the bucket
+	 */
+	private static int findBucket(long[] bounds, long value) {
+		int bucket = 0;
+		while (bucket < bounds.length && value > bounds[bucket]) {
+			bucket++;
+		}
+		return bucket;
+	}
+
+	/**
+	 * Immutable snapshot of the {@link MoveStats}
+	 *
+	 * @author shell
+	 * @version 2.0.0
+	 * @since 2.0.0
+	 */
+	public static final class Snapshot {
+
+		/**
+		 * Number of the started moves
+		 */
+		private final long movesStarted;
+
+		/**
+		 * Number of the completed moves
+		 */
+		private final long movesCompleted;
+
+		/**
+		 * Number of the cancelled moves
+		 */
+		private final long movesCancelled;
+
+		/**
+		 * Number of the rejected moves
+		 */
+		private final long movesRejected;
+
+		/**
+		 * Number of the zeroed moves
+		 */
+		private final long movesZeroed;
+
+		/**
+		 * Number of the clamped moves
+		 */
+		private final long movesClamped;
+
+		/**
+		 * Number of the rendered frames
+		 */
+		private final long framesRendered;
+
+		/**
+		 * Number of the janky frames
+		 */
+		private final long jankFrames;
+
+		/**
+		 * Number of the layout passes
+		 */
+		private final long layoutPasses;
+
+		/**
+		 * Histogram of the move lateness
+		 */
+		private final long[] latenessHistogram;
+
+		/**
+		 * Histogram of the frame intervals
+		 */
+		private final long[] frameIntervalHistogram;
+
+		/**
+		 * Creates an instance of the {@link Snapshot}
+		 *
+		 * @param stats stats to be copied
+		 */
+		private Snapshot(MoveStats stats) {
+			this.movesStarted = stats.movesStarted;
+			this.movesCompleted = stats.movesCompleted;
+			this.movesCancelled = stats.movesCancelled;
+			this.movesRejected = stats.movesRejected;
+			this.movesZeroed = stats.movesZeroed;
+			this.movesClamped = stats.movesClamped;
+			this.framesRendered = stats.framesRendered;
+			this.jankFrames = stats.jankFrames;
+			this.layoutPasses = stats.layoutPasses;
+			this.latenessHistogram = stats.latenessHistogram.clone();
+			this.frameIntervalHistogram = stats.frameIntervalHistogram.clone();
+		}
+
+		/**
+		 * Returns the number of the started moves
+		 *
+		 * @return number of the started moves
+		 */
+		public long getMovesStarted() {
+			return movesStarted;
+		}
+
+		/**
+		 * Returns the number of the moves, which were completed
+		 *
+		 * @return number of the completed moves
+		 */
+		public long getMovesCompleted() {
+			return movesCompleted;
+		}
+
+		/**
+		 * Returns the number of the moves, which were cancelled, including the rejected
+		 * and the zeroed ones
+		 *
+		 * @return number of the cancelled moves
+		 */
+		public long getMovesCancelled() {
+			return movesCancelled;
+		}
+
+		/**
+		 * Returns the number of the moves, which were dropped, since the view was being moved
+		 *
+		 * @return number of the rejected moves
+		 */
+		public long getMovesRejected() {
+			return movesRejected;
+		}
+
+		/**
+		 * Returns the number of the moves, which were not performed, since there was no
+		 * space to move the view
+		 *
+		 * @return number of the zeroed moves
+		 */
+		public long getMovesZeroed() {
+			return movesZeroed;
+		}
+
+		/**
+		 * Returns the number of the performed moves, which deltas were reduced or discarded
+		 * along one axis by the bounds checks
+		 *
+		 * @return number of the clamped moves
+		 */
+		public long getMovesClamped() {
+			return movesClamped;
+		}
+
+		/**
+		 * Returns the number of the frames rendered while the views were being moved
+		 *
+		 * @return number of the rendered frames
+		 */
+		public long getFramesRendered() {
+			return framesRendered;
+		}
+
+		/**
+		 * Returns the number of the frames, which came later than {@link #JANK_FRAME_INTERVAL}
+		 * after the previous one
+		 *
+		 * @return number of the janky frames
+		 */
+		public long getJankFrames() {
+			return jankFrames;
+		}
+
+		/**
+		 * Returns the number of the layout passes requested by the moves
+		 *
+		 * @return number of the layout passes
+		 */
+		public long getLayoutPasses() {
+			return layoutPasses;
+		}
+
+		/**
+		 * Returns the histogram of the differences between the actual and the requested
+		 * move durations, with the buckets described by {@link #getLatenessBucketBounds()}
+		 *
+		 * @return number of the completed moves per bucket
+		 */
+		public long[] getLatenessHistogram() {
+			return latenessHistogram.clone();
+		}
+
+		/**
+		 * Returns the histogram of the intervals between the frames of the moves, with the
+		 * buckets described by {@link #getFrameIntervalBucketBounds()}
+		 *
+		 * @return number of the frames per bucket
+		 */
+		public long[] getFrameIntervalHistogram() {
+			return frameIntervalHistogram.clone();
+		}
+
+		/**
+		 * Returns the string representation of the snapshot
+		 *
+		 * @return string representation of the snapshot
+		 */
+		@Override
+		public String toString() {
+			return "MoveStats.Snapshot{movesStarted=" + movesStarted + ", movesCompleted=" + movesCompleted
+					+ ", movesCancelled=" + movesCancelled + ", movesRejected=" + movesRejected
+					+ ", movesZeroed=" + movesZeroed + ", movesClamped=" + movesClamped
+					+ ", framesRendered=" + framesRendered + ", jankFrames=" + jankFrames
+					+ ", layoutPasses=" + layoutPasses
+					+ ", latenessHistogram=" + Arrays.toString(latenessHistogram)
+					+ ", frameIntervalHistogram=" + Arrays.toString(frameIntervalHistogram) + "}";
+		}
+
+	}
+
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-19 02:31:52
+ */
+
+package com.software.shell.viewmover.movers;
+
+import android.view.animation.Interpolator;
+import com.software.shell.viewmover.configuration.MovePath;
+import com.software.shell.viewmover.configuration.ReadableMovingParams;
+
+/**
+ * Per-frame stepping of the move, which is advanced by the mover itself rather than
+ * by the {@link android.view.animation.Animation}
+ * <p>
+ * Calculates the position of the view for the elapsed fraction of the move, following
+ * the interpolator, the path of the move or, after the move is retargeted, the cubic
+ * Hermite curve, and clamps it to the parent container bounds. Records the frame intervals
+ * to the {@link MoveStats} and measures the velocity of the view between the frames
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+final class MoveStepper {
+
+	/**
+	 * Number of nanoseconds in one millisecond
+	 */
+	static final long NANOS_PER_MILLI = 1000000L;
+
+	/**
+	 * X position of the view when the move started
+	 */
+	private float startX;
+
+	/**
+	 * Y position of the view when the move started
+	 */
+	private float startY;
+
+	/**
+	 * X-axis delta of the current move in actual pixels
+	 */
+	private float xAxisDelta;
+
+	/**
+	 * Y-axis delta of the current move in actual pixels
+	 */
+	private float yAxisDelta;
+
+	/**
+	 * Minimum X position of the view, which keeps it within the parent container
+	 */
+	private float minX;
+
+	/**
+	 * Maximum X position of the view, which keeps it within the parent container
+	 */
+	private float maxX;
+
+	/**
+	 * Minimum Y position of the view, which keeps it within the parent container
+	 */
+	private float minY;
+
+	/**
+	 * Maximum Y position of the view, which keeps it within the parent container
+	 */
+	private float maxY;
+
+	/**
+	 * Duration of the current move in ms
+	 */
+	private long duration;
+
+	/**
+	 * Interpolator of the current move
+	 */
+	private Interpolator interpolator;
+
+	/**
+	 * Path the view is moved along in the current move
+	 * <p>
+	 * Is {@code null} if the view is moved along the straight line
+	 */
+	private MovePath path;
+
+	/**
+	 * Arc length of the path the view is moved along in actual pixels
+	 */
+	private float pathLength;
+
+	/**
+	 * Point of the path calculated for the current step
+	 */
+	private final float[] pathPoint = new float[2];
+
+	/**
+	 * Whether the current move follows the Hermite curve after being retargeted
+	 * rather than the interpolator
+	 */
+	private boolean retargeted;
+
+	/**
+	 * X-axis velocity of the view in px/ms when the current move was retargeted
+	 */
+	private float startVelocityX;
+
+	/**
+	 * Y-axis velocity of the view in px/ms when the current move was retargeted
+	 */
+	private float startVelocityY;
+
+	/**
+	 * Time of the first frame of the current move in ns
+	 * <p>
+	 * Is negative until the first frame of the move is rendered
+	 */
+	private long startTimeNanos;
+
+	/**
+	 * Time of the last recorded frame in ns
+	 * <p>
+	 * Is negative if no frame of the current move is recorded yet
+	 */
+	private long lastFrameTimeNanos;
+
+	/**
+	 * X position of the view calculated by the last step
+	 */
+	private float x;
+
+	/**
+	 * Y position of the view calculated by the last step
+	 */
+	private float y;
+
+	/**
+	 * X position of the view on the last recorded frame
+	 */
+	private float lastX;
+
+	/**
+	 * Y position of the view on the last recorded frame
+	 */
+	private float lastY;
+
+	/**
+	 * X-axis velocity of the view in px/ms measured between the last two recorded frames
+	 */
+	private float velocityX;
+
+	/**
+	 * Y-axis velocity of the view in px/ms measured between the last two recorded frames
+	 */
+	private float velocityY;
+
+	/**
+	 * Starts the new move from the geometry captured by the mover
+	 *
+	 * @param mover mover of the view, which verified the moving params
+	 * @param params verified moving params
+	 */
+	void start(ViewMover mover, ReadableMovingParams params) {
+		prepare(mover, params);
+		retargeted = false;
+		velocityX = 0.0f;
+		velocityY = 0.0f;
+		lastFrameTimeNanos = -1L;
+	}
+
+	/**
+	 * Starts the new segment of the move in progress from the geometry captured by the mover
+	 * <p>
+	 * The view continues with the velocity measured on the last frames, following the cubic
+	 * Hermite curve, which ends at the new destination with zero velocity. The path of the
+	 * move in progress is left
+	 *
+	 * @param mover mover of the view, which verified the moving params
+	 * @param params verified moving params
+	 */
+	void retarget(ViewMover mover, ReadableMovingParams params) {
+		prepare(mover, params);
+		path = null;
+		startVelocityX = velocityX;
+		startVelocityY = velocityY;
+		retargeted = true;
+	}
+
+	/**
+	 * Captures the start position, the bounds and the params of the move
+	 *
+	 * @param mover mover of the view, which verified the moving params
+	 * @param params verified moving params
+	 */
+	private void prepare(ViewMover mover, ReadableMovingParams params) {
+		ViewGeometry geometry = mover.getGeometry();
+		startX = geometry.getX();
+		startY = geometry.getY();
+		minX = startX + mover.getMinXAxisDelta(geometry);
+		minY = startY + mover.getMinYAxisDelta(geometry);
+		maxX = startX + mover.getMaxXAxisDelta(geometry);
+		maxY = startY + mover.getMaxYAxisDelta(geometry);
+		xAxisDelta = params.getXAxisDelta();
+		yAxisDelta = params.getYAxisDelta();
+		duration = params.getAnimationDuration();
+		interpolator = mover.getInterpolator(params);
+		path = mover.getMovePath();
+		pathLength = mover.getMovePathLength();
+		startTimeNanos = -1L;
+	}
+
+	/**
+	 * Returns the elapsed fraction of the move duration at the frame time
+	 * <p>
+	 * The first call of the move marks its start
+	 *
+	 * @param frameTimeNanos time of the frame in ns
+	 * @return elapsed fraction of the move duration within [0, 1]
+	 */
+	float getFraction(long frameTimeNanos) {
+		if (startTimeNanos < 0L) {
+			startTimeNanos = frameTimeNanos;
+		}
+		long elapsed = (frameTimeNanos - startTimeNanos) / NANOS_PER_MILLI;
+		return duration > 0L ? Math.min(1.0f, (float) elapsed / duration) : 1.0f;
+	}
+
+	/**
+	 * Calculates the position of the view for the elapsed fraction of the move, clamped to
+	 * the parent container bounds
+	 * <p>
+	 * The position is returned by {@link #getX()} and {@link #getY()}
+	 *
+	 * @param fraction elapsed fraction of the move duration
+	 */
+	void step(float fraction) {
+		float x;
+		float y;
+		if (retargeted) {
+			x = hermite(fraction, startX, startVelocityX, xAxisDelta);
+			y = hermite(fraction, startY, startVelocityY, yAxisDelta);
+		} else {
+			float interpolatedFraction = fraction < 1.0f ? interpolator.getInterpolation(fraction) : 1.0f;
+			if (path != null && fraction < 1.0f) {
+				path.getPoint(pathLength * interpolatedFraction, pathPoint);
+				x = startX + pathPoint[0];
+				y = startY + pathPoint[1];
+			} else {
+				x = startX + xAxisDelta * interpolatedFraction;
+				y = startY + yAxisDelta * interpolatedFraction;
+			}
+		}
+		this.x = Math.max(minX, Math.min(maxX, x));
+		this.y = Math.max(minY, Math.min(maxY, y));
+	}
+
+	/**
+	 * Records the frame, which shows the position calculated by the last step
+	 * <p>
+	 * Records the interval since the previous frame to the move stats and updates the
+	 * velocity of the view
+	 *
+	 * @param moveStats move stats to record the frame to. May be {@code null}
+	 * @param frameTimeNanos time of the frame in ns
+	 */
+	void recordFrame(MoveStats moveStats, long frameTimeNanos) {
+		if (moveStats != null) {
+			moveStats.recordFrame(lastFrameTimeNanos < 0L ? -1L : (frameTimeNanos - lastFrameTimeNanos) / NANOS_PER_MILLI);
+		}
+		if (lastFrameTimeNanos >= 0L && frameTimeNanos > lastFrameTimeNanos) {
+			float frameDuration = (float) (frameTimeNanos - lastFrameTimeNanos) / NANOS_PER_MILLI;
+			velocityX = (x - lastX) / frameDuration;
+			velocityY = (y - lastY) / frameDuration;
+		}
+		lastX = x;
+		lastY = y;
+		lastFrameTimeNanos = frameTimeNanos;
+	}
+
+	/**
+	 * Returns the X position of the view calculated by the last step
+	 *
+	 * @return X position of the view
+	 */
+	float getX() {
+		return x;
+	}
+
+	/**
+	 * Returns the Y position of the view calculated by the last step
+	 *
+	 * @return Y position of the view
+	 */
+	float getY() {
+		return y;
+	}
+
+	/**
+	 * Returns the X-axis delta of the current move
+	 *
+	 * @return X-axis delta in actual pixels
+	 */
+	float getXAxisDelta() {
+		return xAxisDelta;
+	}
+
+	/**
+	 * Returns the Y-axis delta of the current move
+	 *
+	 * @return Y-axis delta in actual pixels
+	 */
+	float getYAxisDelta() {
+		return yAxisDelta;
+	}
+
+	/**
+	 * Returns the X-axis velocity of the view when the current move was retargeted
+	 *
+	 * @return X-axis velocity in px/ms
+	 */
+	float getStartVelocityX() {
+		return startVelocityX;
+	}
+
+	/**
+	 * Returns the Y-axis velocity of the view when the current move was retargeted
+	 *
+	 * @return Y-axis velocity in px/ms
+	 */
+	float getStartVelocityY() {
+		return startVelocityY;
+	}
+
+	/**
+	 * Calculates the position on the cubic Hermite curve, which starts at the start position
+	 * with the start velocity and ends at the start position plus delta with zero velocity
+	 *
+	 * @param fraction elapsed fraction of the move duration
+	 * @param start start position
+	 * @param startVelocity start velocity in px/ms
+	 * @param delta distance between the start and the end positions
+	 * @return position on the curve
+	 */
+	private float hermite(float fraction, float start, float startVelocity, float delta) {
+		float fraction2 = fraction * fraction;
+		float fraction3 = fraction2 * fraction;
+		float velocityBasis = fraction3 - 2.0f * fraction2 + fraction;
+		float endBasis = -2.0f * fraction3 + 3.0f * fraction2;
+		return start + velocityBasis * duration * startVelocity + endBasis * delta;
+	}
+
+}
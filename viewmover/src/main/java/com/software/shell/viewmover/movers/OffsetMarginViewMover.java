@@ -0,0 +1,227 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 12:58:36
+ */
+
+package com.software.shell.viewmover.movers;
+
+import android.view.View;
+import android.view.ViewTreeObserver;
+import com.software.shell.viewmover.logging.ViewMoverLog;
+import com.software.shell.viewmover.logging.ViewMoverTrace;
+
+/**
+ * Margin view mover class, which defers the layout pass caused by changing the view margins
+ * <p>
+ * The view position is changed immediately by offsetting the view bounds, which does not
+ * request a layout. The margins are written once the moves stop coming for
+ * {@link #COMMIT_DELAY} ms, so a burst of moves results in a single layout pass
+ * <p>
+ * A layout pass of the parent container lays the view out by its margins, dropping the
+ * offsets. So while the margins are pending, the view tree is watched by the pre-draw
+ * listener, which writes the margins right away once the view has been laid out at its
+ * previous position, and skips drawing that frame
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+class OffsetMarginViewMover extends MarginViewMover {
+
+	/**
+	 * Logging tag
+	 */
+	private static final String LOG_TAG = String.format("[view-mover][%s]",
+			OffsetMarginViewMover.class.getSimpleName());
+
+	/**
+	 * Delay in ms after the last move, when the view margins are written
+	 */
+	private static final long COMMIT_DELAY = 100L;
+
+	/**
+	 * X-axis delta in actual pixels, which is not yet written into the view margins
+	 */
+	private float pendingXAxisDelta;
+
+	/**
+	 * Y-axis delta in actual pixels, which is not yet written into the view margins
+	 */
+	private float pendingYAxisDelta;
+
+	/**
+	 * Horizontal offset currently applied to the view bounds
+	 */
+	private int appliedOffsetX;
+
+	/**
+	 * Vertical offset currently applied to the view bounds
+	 */
+	private int appliedOffsetY;
+
+	/**
+	 * Left position of the view before the offsets were applied
+	 */
+	private int baseLeft;
+
+	/**
+	 * Top position of the view before the offsets were applied
+	 */
+	private int baseTop;
+
+	/**
+	 * Runnable, which writes the pending deltas into the view margins
+	 */
+	private final Runnable commitRunnable = new Runnable() {
+		@Override
+		public void run() {
+			commitViewPosition();
+		}
+	};
+
+	/**
+	 * Listener, which writes the pending deltas into the view margins as soon as the parent
+	 * container lays out the view
+	 */
+	private final ViewTreeObserver.OnPreDrawListener preDrawListener = new ViewTreeObserver.OnPreDrawListener() {
+		@Override
+		public boolean onPreDraw() {
+			return commitIfLaidOut();
+		}
+	};
+
+	/**
+	 * View tree observer the {@link #preDrawListener} is added to, or {@code null} if the
+	 * listener is not added
+	 */
+	private ViewTreeObserver preDrawObserver;
+
+	/**
+	 * Geometry of the view with the offsets removed, which the margins are written against
+	 * <p>
+	 * The geometry captured when the move started includes the offsets of the previous moves
+	 * of the burst, so it is captured again once the offsets are removed
+	 */
+	private final ViewGeometry commitGeometry = new ViewGeometry();
+
+	/**
+	 * Creates an instance of the {@link com.software.shell.viewmover.movers.OffsetMarginViewMover}
+	 *
+	 * @param view view to be moved
+	 */
+	OffsetMarginViewMover(View view) {
+		super(view);
+	}
+
+	/**
+	 * Changes the position of the view by offsetting its bounds and schedules writing
+	 * the view margins
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 */
+	@Override
+	void changeViewPosition(float xAxisDelta, float yAxisDelta) {
+		View view = getView();
+		if (appliedOffsetX == 0 && appliedOffsetY == 0) {
+			baseLeft = view.getLeft();
+			baseTop = view.getTop();
+		}
+		pendingXAxisDelta += xAxisDelta;
+		pendingYAxisDelta += yAxisDelta;
+		int offsetX = (int) pendingXAxisDelta - appliedOffsetX;
+		int offsetY = (int) pendingYAxisDelta - appliedOffsetY;
+		view.offsetLeftAndRight(offsetX);
+		view.offsetTopAndBottom(offsetY);
+		appliedOffsetX += offsetX;
+		appliedOffsetY += offsetY;
+		ViewMoverLog.v(LOG_TAG, "View bounds offset: x = %s, y = %s", appliedOffsetX, appliedOffsetY);
+		view.removeCallbacks(commitRunnable);
+		view.postDelayed(commitRunnable, COMMIT_DELAY);
+		if (preDrawObserver == null) {
+			preDrawObserver = view.getViewTreeObserver();
+			preDrawObserver.addOnPreDrawListener(preDrawListener);
+		}
+	}
+
+	/**
+	 * Changes the position of the view. The view bounds are offset by
+	 * {@link #changeViewPosition(float, float)} already
+	 *
+	 * @param xAxisDelta X-axis delta of the last frame in actual pixels
+	 * @param yAxisDelta Y-axis delta of the last frame in actual pixels
+	 */
+	@Override
+	void commitCurrentPosition(float xAxisDelta, float yAxisDelta) {
+		changeViewPosition(xAxisDelta, yAxisDelta);
+	}
+
+	/**
+	 * Writes the pending deltas into the view margins if the parent container has laid out
+	 * the view since the offsets were applied
+	 *
+	 * @return true if the frame can be drawn, false if the margins were written and the frame
+	 *         would show the view at its previous position
+	 */
+	private boolean commitIfLaidOut() {
+		View view = getView();
+		if (view.getLeft() == baseLeft + appliedOffsetX && view.getTop() == baseTop + appliedOffsetY) {
+			return true;
+		}
+		ViewMoverLog.v(LOG_TAG, "View laid out before the margins were written. Writing the margins now");
+		view.removeCallbacks(commitRunnable);
+		commitViewPosition();
+		return false;
+	}
+
+	/**
+	 * Writes the pending deltas into the view margins
+	 * <p>
+	 * The offsets are removed first, unless the parent container has laid out the view
+	 * in the meantime, so the margins are calculated relative to the laid out position
+	 */
+	private void commitViewPosition() {
+		View view = getView();
+		if (preDrawObserver != null) {
+			if (preDrawObserver.isAlive()) {
+				preDrawObserver.removeOnPreDrawListener(preDrawListener);
+			}
+			preDrawObserver = null;
+		}
+		if (view.getLeft() == baseLeft + appliedOffsetX && view.getTop() == baseTop + appliedOffsetY) {
+			view.offsetLeftAndRight(-appliedOffsetX);
+			view.offsetTopAndBottom(-appliedOffsetY);
+		}
+		float xAxisDelta = pendingXAxisDelta;
+		float yAxisDelta = pendingYAxisDelta;
+		pendingXAxisDelta = 0.0f;
+		pendingYAxisDelta = 0.0f;
+		appliedOffsetX = 0;
+		appliedOffsetY = 0;
+		ViewMoverLog.v(LOG_TAG, "Writing view margins: delta X-axis = %s, delta Y-axis = %s", xAxisDelta,
+				yAxisDelta);
+		if (ViewMoverTrace.ENABLED) {
+			ViewMoverTrace.beginSection(ViewMoverTrace.SECTION_COMMIT);
+		}
+		ViewGeometry geometry = getGeometry();
+		commitGeometry.set(view, geometry.getParentWidth(), geometry.getParentHeight());
+		changeViewPosition(commitGeometry, xAxisDelta, yAxisDelta);
+		if (ViewMoverTrace.ENABLED) {
+			ViewMoverTrace.endSection();
+		}
+	}
+
+}
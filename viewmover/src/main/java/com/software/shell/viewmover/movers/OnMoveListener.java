@@ -0,0 +1,53 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 19:08:33
+ */
+
+package com.software.shell.viewmover.movers;
+
+/**
+ * Listener of the moves of the view
+ * <p>
+ * Registered through {@link ViewMover#addOnMoveListener(OnMoveListener)}. The moves are
+ * identified by the ids returned by {@link ViewMover#move(com.software.shell.viewmover.configuration.ReadableMovingParams)}.
+ * Every move is reported exactly once, either as ended or as cancelled. The callbacks are
+ * called on the UI thread
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public interface OnMoveListener {
+
+	/**
+	 * Is called when the move completes and the view is at its destination
+	 *
+	 * @param mover view mover, which moved the view
+	 * @param moveId id of the completed move
+	 */
+	void onMoveEnded(ViewMover mover, long moveId);
+
+	/**
+	 * Is called when the move is cancelled by {@link ViewMover#cancel()}, dropped or replaced
+	 * according to the pending move policy, superseded by the retargeted move, or can not be
+	 * performed, since there is no space to move the view
+	 *
+	 * @param mover view mover, which was to move the view
+	 * @param moveId id of the cancelled move
+	 */
+	void onMoveCancelled(ViewMover mover, long moveId);
+
+}
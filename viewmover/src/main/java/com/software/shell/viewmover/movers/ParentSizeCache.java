@@ -0,0 +1,139 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-19 02:14:37
+ */
+
+package com.software.shell.viewmover.movers;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.View;
+import com.software.shell.viewmover.logging.ViewMoverLog;
+
+/**
+ * Cache of the parent container size
+ * <p>
+ * The size is read again only after the parent container is laid out. A single cache
+ * may be shared by the movers of the views with the same parent container, so the parent
+ * container is listened to once for all of them
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+final class ParentSizeCache {
+
+	/**
+	 * Logging tag
+	 */
+	private static final String LOG_TAG = String.format("[view-mover][%s]", ParentSizeCache.class.getSimpleName());
+
+	/**
+	 * Parent container, which size is cached
+	 */
+	private View parent;
+
+	/**
+	 * Cached width of the parent container
+	 */
+	private int width;
+
+	/**
+	 * Cached height of the parent container
+	 */
+	private int height;
+
+	/**
+	 * Whether the cached size of the parent container is up to date
+	 * <p>
+	 * Is reset by {@link #layoutChangeListener} when the parent container is laid out.
+	 * Prior to {@link android.os.Build.VERSION_CODES#HONEYCOMB} is always {@code false},
+	 * since layout changes can not be listened to
+	 */
+	private boolean valid;
+
+	/**
+	 * Listener of the parent container layout changes, which invalidates the cached size
+	 * <p>
+	 * Is {@code null} prior to {@link android.os.Build.VERSION_CODES#HONEYCOMB}
+	 */
+	private View.OnLayoutChangeListener layoutChangeListener;
+
+	/**
+	 * Brings the cached size up to date with the parent container
+	 * <p>
+	 * Starts tracking the parent container if it differs from the cached one
+	 *
+	 * @param parent current parent container of the moved view
+	 */
+	void update(View parent) {
+		if (parent != this.parent) {
+			track(parent);
+		}
+		if (!valid) {
+			width = parent.getWidth();
+			height = parent.getHeight();
+			valid = layoutChangeListener != null;
+			ViewMoverLog.v(LOG_TAG, "Parent view size is: width = %s, height = %s", width, height);
+		}
+	}
+
+	/**
+	 * Returns the cached width of the parent container
+	 *
+	 * @return width of the parent container
+	 */
+	int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the cached height of the parent container
+	 *
+	 * @return height of the parent container
+	 */
+	int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Starts tracking the layout changes of the new parent container and stops tracking
+	 * the previous one
+	 *
+	 * @param parent new parent container
+	 */
+	@TargetApi(Build.VERSION_CODES.HONEYCOMB)
+	private void track(View parent) {
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
+			if (layoutChangeListener == null) {
+				layoutChangeListener = new View.OnLayoutChangeListener() {
+					@Override
+					public void onLayoutChange(View v, int left, int top, int right, int bottom,
+					                           int oldLeft, int oldTop, int oldRight, int oldBottom) {
+						valid = false;
+					}
+				};
+			}
+			if (this.parent != null) {
+				this.parent.removeOnLayoutChangeListener(layoutChangeListener);
+			}
+			parent.addOnLayoutChangeListener(layoutChangeListener);
+		}
+		this.parent = parent;
+		valid = false;
+	}
+
+}
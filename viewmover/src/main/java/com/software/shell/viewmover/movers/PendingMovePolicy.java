@@ -0,0 +1,59 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 13:47:05
+ */
+
+package com.software.shell.viewmover.movers;
+
+/**
+ * Policies of handling the moves requested while the view is being moved
+ * <p>
+ * Set through {@link ViewMover#setPendingMovePolicy(PendingMovePolicy)}
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public enum PendingMovePolicy {
+
+	/**
+	 * The move is dropped
+	 * <p>
+	 * Is used by default
+	 */
+	DROP,
+
+	/**
+	 * The move is kept and performed after the current move completes. A move requested
+	 * later replaces the kept one
+	 */
+	REPLACE_LATEST,
+
+	/**
+	 * The deltas of the move are added to the deltas of the kept move, which is performed
+	 * after the current move completes. The other moving params are taken from the latest move
+	 */
+	ACCUMULATE,
+
+	/**
+	 * The move is queued and performed after the moves queued earlier complete
+	 * <p>
+	 * When the queue is full the deltas of the move are added to the last queued move.
+	 * The queue capacity is set through {@link ViewMover#setPendingMoveCapacity(int)}
+	 */
+	QUEUE
+
+}
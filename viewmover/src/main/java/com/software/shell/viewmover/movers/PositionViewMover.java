@@ -20,8 +20,8 @@ package com.software.shell.viewmover.movers;
 
 import android.annotation.TargetApi;
 import android.os.Build;
-import android.util.Log;
 import android.view.View;
+import com.software.shell.viewmover.logging.ViewMoverLog;
 
 /**
  * View mover class, which is used to move the view, based on view's visual position
@@ -30,7 +30,7 @@ import android.view.View;
  * Used for {@code TargetApi} {@link android.os.Build.VERSION_CODES#JELLY_BEAN} and higher
  *
  * @author shell
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 class PositionViewMover extends ViewMover {
@@ -49,6 +49,18 @@ class PositionViewMover extends ViewMover {
 		super(view);
 	}
 
+	/**
+	 * Creates an instance of the {@link com.software.shell.viewmover.movers.PositionViewMover},
+	 * which reads the size of the parent container from the shared cache
+	 *
+	 * @param view view to be moved
+	 * @param parentSizeCache cache of the parent container size, shared with the movers of
+	 *                        the other views within the same parent container
+	 */
+	PositionViewMover(View view, ParentSizeCache parentSizeCache) {
+		super(view, parentSizeCache);
+	}
+
 	/**
 	 * Changes the position of the view based on view's visual position within its parent container
 	 *
@@ -58,62 +70,101 @@ class PositionViewMover extends ViewMover {
 	@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
 	@Override
 	void changeViewPosition(float xAxisDelta, float yAxisDelta) {
-		float endLeftBoundPointX = calculateEndLeftBound(xAxisDelta);
-		float endTopBoundPointY = calculateEndTopBound(yAxisDelta);
+		ViewGeometry geometry = captureGeometry();
+		float endLeftBoundPointX = geometry.getX() + xAxisDelta;
+		float endTopBoundPointY = geometry.getY() + yAxisDelta;
 		getView().setX(endLeftBoundPointX);
 		getView().setY(endTopBoundPointY);
-		Log.v(LOG_TAG, String.format("Updated view position: left x = %s, top y = %s", endLeftBoundPointX,
-				endTopBoundPointY));
+		ViewMoverLog.v(LOG_TAG, "Updated view position: left x = %s, top y = %s", endLeftBoundPointX,
+				endTopBoundPointY);
+	}
+
+	/**
+	 * Returns the whole axis delta, since the view position is changed with
+	 * the sub-pixel precision
+	 *
+	 * @param delta axis delta in actual pixels
+	 * @return axis delta in actual pixels
+	 */
+	@Override
+	float getAppliedAxisDelta(float delta) {
+		return delta;
 	}
 
 	/**
 	 * Calculates the resulting X coordinate of the view's left bound based on the
 	 * X position of the view and the X-axis delta
 	 *
+	 * @param geometry geometry of the view, captured when the move started
 	 * @param xAxisDelta X-axis delta in actual pixels
 	 * @return resulting X coordinate of the view's left bound
 	 */
-	@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
 	@Override
-	int calculateEndLeftBound(float xAxisDelta) {
-		return (int) (getView().getX() + xAxisDelta);
+	int calculateEndLeftBound(ViewGeometry geometry, float xAxisDelta) {
+		return (int) (geometry.getX() + xAxisDelta);
 	}
 
 	/**
 	 * Calculates the resulting X coordinate of the view's right bound based on the
 	 * resulting X coordinate of the view's left bound and the view's width
 	 *
+	 * @param geometry geometry of the view, captured when the move started
 	 * @param xAxisDelta X-axis delta in actual pixels
 	 * @return resulting X coordinate of the view's right bound
 	 */
 	@Override
-	int calculateEndRightBound(float xAxisDelta) {
-		return calculateEndLeftBound(xAxisDelta) + getView().getWidth();
+	int calculateEndRightBound(ViewGeometry geometry, float xAxisDelta) {
+		return (int) (geometry.getX() + xAxisDelta) + geometry.getWidth();
 	}
 
 	/**
 	 * Calculates the resulting Y coordinate of the view's top bound based on the
 	 * Y position of the view and the Y-axis delta
 	 *
+	 * @param geometry geometry of the view, captured when the move started
 	 * @param yAxisDelta Y-axis delta in actual pixels
 	 * @return resulting Y coordinate of the view's top bound
 	 */
-	@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
 	@Override
-	int calculateEndTopBound(float yAxisDelta) {
-		return (int) (getView().getY() + yAxisDelta);
+	int calculateEndTopBound(ViewGeometry geometry, float yAxisDelta) {
+		return (int) (geometry.getY() + yAxisDelta);
 	}
 
 	/**
 	 * Calculates the resulting Y coordinate of the view's bottom bound based on the
 	 * resulting Y coordinate of the view's top bound and the view's height
 	 *
+	 * @param geometry geometry of the view, captured when the move started
 	 * @param yAxisDelta Y-axis delta in actual pixels
 	 * @return resulting Y coordinate of the view's bottom bound
 	 */
 	@Override
-	int calculateEndBottomBound(float yAxisDelta) {
-		return calculateEndTopBound(yAxisDelta) + getView().getHeight();
+	int calculateEndBottomBound(ViewGeometry geometry, float yAxisDelta) {
+		return (int) (geometry.getY() + yAxisDelta) + geometry.getHeight();
+	}
+
+	/**
+	 * Returns the current X position of the view without rounding it, so the absolute moves
+	 * do not drift by the fractional part of the position
+	 *
+	 * @param geometry geometry of the view, captured when the move started
+	 * @return current X position of the view in actual pixels
+	 */
+	@Override
+	float getCurrentLeft(ViewGeometry geometry) {
+		return geometry.getX();
+	}
+
+	/**
+	 * Returns the current Y position of the view without rounding it, so the absolute moves
+	 * do not drift by the fractional part of the position
+	 *
+	 * @param geometry geometry of the view, captured when the move started
+	 * @return current Y position of the view in actual pixels
+	 */
+	@Override
+	float getCurrentTop(ViewGeometry geometry) {
+		return geometry.getY();
 	}
 
 }
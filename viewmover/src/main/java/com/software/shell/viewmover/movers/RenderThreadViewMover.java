@@ -0,0 +1,335 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 20:31:47
+ */
+
+package com.software.shell.viewmover.movers;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.View;
+import android.view.animation.AnimationUtils;
+import android.view.animation.Interpolator;
+import com.software.shell.viewmover.configuration.ReadableMovingParams;
+import com.software.shell.viewmover.logging.ViewMoverLog;
+
+/**
+ * View mover class, which hands the move over to the render thread
+ * <p>
+ * The move is performed by the {@link android.view.ViewPropertyAnimator} with no listener,
+ * update listener or end action, since the render thread refuses the animators, which have
+ * any of them. So on the hardware accelerated views the move is run by the render thread and
+ * keeps running while the UI thread is blocked. The listeners left on the property animator
+ * of the view are cleared when the move starts. The end of the move is detected by the check
+ * posted for the end time of the move, which completes the move once the time has passed and
+ * the view has reached its destination
+ * <p>
+ * The interpolator is sampled once when the move starts, and is limited to the range, which
+ * keeps the view within its parent container, so the overshooting interpolators are clamped
+ * the same way as by the other engines
+ * <p>
+ * The path moves are performed by the view animation, since the property animator moves
+ * the view along the straight line only. Used for {@code TargetApi}
+ * {@link android.os.Build.VERSION_CODES#LOLLIPOP} and higher
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@TargetApi(Build.VERSION_CODES.LOLLIPOP)
+class RenderThreadViewMover extends PositionViewMover {
+
+	/**
+	 * Logging tag
+	 */
+	private static final String LOG_TAG = String.format("[view-mover][%s]", RenderThreadViewMover.class.getSimpleName());
+
+	/**
+	 * Time in ms after the end time of the move, when the move is completed even if the view
+	 * has not reached its destination, e.g. when the property animator was cancelled by
+	 * the caller
+	 */
+	private static final long END_CHECK_TIMEOUT = 100L;
+
+	/**
+	 * Check of the move end, shared by all the moves
+	 */
+	private final Runnable endCheck = new Runnable() {
+		@Override
+		public void run() {
+			checkMoveEnded();
+		}
+	};
+
+	/**
+	 * Interpolator, which limits the interpolator of the move, shared by all the moves
+	 */
+	private final ClampedInterpolator clampedInterpolator = new ClampedInterpolator();
+
+	/**
+	 * Whether the view is being moved by the property animator
+	 */
+	private boolean moving;
+
+	/**
+	 * Time in ms the move ends at
+	 */
+	private long moveEndTime;
+
+	/**
+	 * Duration of the move in ms
+	 */
+	private long moveDuration;
+
+	/**
+	 * X position of the view at the start of the move
+	 */
+	private float startX;
+
+	/**
+	 * Y position of the view at the start of the move
+	 */
+	private float startY;
+
+	/**
+	 * X position of the view at the end of the move
+	 */
+	private float endX;
+
+	/**
+	 * Y position of the view at the end of the move
+	 */
+	private float endY;
+
+	/**
+	 * Creates an instance of the {@link com.software.shell.viewmover.movers.RenderThreadViewMover}
+	 *
+	 * @param view view to be moved
+	 */
+	RenderThreadViewMover(View view) {
+		super(view);
+	}
+
+	/**
+	 * Starts the property animator, which moves the view to the destination
+	 * <p>
+	 * The path moves are started as the view animation
+	 *
+	 * @param params verified moving params
+	 */
+	@Override
+	void startMove(ReadableMovingParams params) {
+		if (getMovePath() != null) {
+			super.startMove(params);
+			return;
+		}
+		ViewGeometry geometry = getGeometry();
+		float xAxisDelta = params.getXAxisDelta();
+		float yAxisDelta = params.getYAxisDelta();
+		float minXAxisDelta = getMinXAxisDelta(geometry);
+		float maxXAxisDelta = getMaxXAxisDelta(geometry);
+		float minYAxisDelta = getMinYAxisDelta(geometry);
+		float maxYAxisDelta = getMaxYAxisDelta(geometry);
+		clampedInterpolator.set(getInterpolator(params),
+				Math.max(getMinFraction(minXAxisDelta, maxXAxisDelta, xAxisDelta),
+						getMinFraction(minYAxisDelta, maxYAxisDelta, yAxisDelta)),
+				Math.min(getMaxFraction(minXAxisDelta, maxXAxisDelta, xAxisDelta),
+						getMaxFraction(minYAxisDelta, maxYAxisDelta, yAxisDelta)));
+		startX = geometry.getX();
+		startY = geometry.getY();
+		endX = startX + xAxisDelta;
+		endY = startY + yAxisDelta;
+		long duration = params.getAnimationDuration();
+		moveDuration = duration;
+		moveEndTime = AnimationUtils.currentAnimationTimeMillis() + duration;
+		moving = true;
+		getView().animate()
+				.setListener(null)
+				.setUpdateListener(null)
+				.x(endX)
+				.y(endY)
+				.setDuration(duration)
+				.setInterpolator(clampedInterpolator)
+				.start();
+		getView().postOnAnimationDelayed(endCheck, duration);
+	}
+
+	/**
+	 * Completes the move if its end time has passed and the view has reached its destination
+	 * <p>
+	 * Otherwise checks again on the next frame. On the render thread the position of the view
+	 * is set to the destination when the move starts, so the move is completed at its end time.
+	 * When the property animator falls back to the UI thread, the move is completed after the
+	 * last frame of the property animator
+	 */
+	private void checkMoveEnded() {
+		if (!moving) {
+			return;
+		}
+		long overtime = AnimationUtils.currentAnimationTimeMillis() - moveEndTime;
+		if (overtime < 0L) {
+			getView().postOnAnimationDelayed(endCheck, -overtime);
+			return;
+		}
+		if ((getView().getX() != endX || getView().getY() != endY) && overtime < END_CHECK_TIMEOUT) {
+			getView().postOnAnimation(endCheck);
+			return;
+		}
+		moving = false;
+		ViewMoverLog.v(LOG_TAG, "Move completed at: x = %s, y = %s", getView().getX(), getView().getY());
+		onMoveEnded();
+	}
+
+	/**
+	 * Calculates the minimum interpolated fraction, which keeps the view within the range
+	 * along one axis
+	 *
+	 * @param minDelta minimum axis delta in actual pixels
+	 * @param maxDelta maximum axis delta in actual pixels
+	 * @param delta axis delta of the move in actual pixels
+	 * @return minimum interpolated fraction, not greater than {@code 0}
+	 */
+	private static float getMinFraction(float minDelta, float maxDelta, float delta) {
+		if (delta > 0.0f) {
+			return Math.min(0.0f, minDelta / delta);
+		} else if (delta < 0.0f) {
+			return Math.min(0.0f, maxDelta / delta);
+		}
+		return -Float.MAX_VALUE;
+	}
+
+	/**
+	 * Calculates the maximum interpolated fraction, which keeps the view within the range
+	 * along one axis
+	 *
+	 * @param minDelta minimum axis delta in actual pixels
+	 * @param maxDelta maximum axis delta in actual pixels
+	 * @param delta axis delta of the move in actual pixels
+	 * @return maximum interpolated fraction, not less than {@code 1}
+	 */
+	private static float getMaxFraction(float minDelta, float maxDelta, float delta) {
+		if (delta > 0.0f) {
+			return Math.max(1.0f, maxDelta / delta);
+		} else if (delta < 0.0f) {
+			return Math.max(1.0f, minDelta / delta);
+		}
+		return Float.MAX_VALUE;
+	}
+
+	/**
+	 * Cancels the property animator, leaving the view at its current position
+	 * <p>
+	 * The path moves are cancelled the same way as the view animation
+	 */
+	@Override
+	void stopMove() {
+		if (!moving) {
+			super.stopMove();
+			return;
+		}
+		moving = false;
+		getView().removeCallbacks(endCheck);
+		getView().animate().cancel();
+	}
+
+	/**
+	 * Cancels the property animator and puts the view at the position it has on the render
+	 * thread at the moment
+	 * <p>
+	 * The position is calculated from the elapsed time, since the position of the view, which
+	 * is moved by the render thread, is not updated on the UI thread during the move. The path
+	 * moves are stopped the same way as the view animation
+	 */
+	@Override
+	void stopMoveAtCurrentPosition() {
+		if (!moving) {
+			super.stopMoveAtCurrentPosition();
+			return;
+		}
+		long remaining = Math.max(0L, moveEndTime - AnimationUtils.currentAnimationTimeMillis());
+		float fraction = moveDuration > 0L ? 1.0f - Math.min(1.0f, (float) remaining / moveDuration) : 1.0f;
+		float interpolatedFraction = clampedInterpolator.getInterpolation(fraction);
+		float x = startX + (endX - startX) * interpolatedFraction;
+		float y = startY + (endY - startY) * interpolatedFraction;
+		stopMove();
+		getView().setX(x);
+		getView().setY(y);
+		ViewMoverLog.v(LOG_TAG, "Move stopped at: x = %s, y = %s", x, y);
+	}
+
+	/**
+	 * Checks whether the view is being currently moved
+	 *
+	 * @return true if the view is being currently moved, otherwise false
+	 */
+	@Override
+	boolean isMoving() {
+		return moving || super.isMoving();
+	}
+
+	/**
+	 * Interpolator, which limits the interpolated fraction of the wrapped interpolator
+	 * <p>
+	 * Both axes share the interpolated fraction, so the range is the intersection of the
+	 * ranges of both axes
+	 */
+	private static class ClampedInterpolator implements Interpolator {
+
+		/**
+		 * Interpolator of the move
+		 */
+		private Interpolator interpolator;
+
+		/**
+		 * Minimum interpolated fraction
+		 */
+		private float minFraction;
+
+		/**
+		 * Maximum interpolated fraction
+		 */
+		private float maxFraction;
+
+		/**
+		 * Sets the interpolator of the move and its limits
+		 * <p>
+		 * Must be called before the move is started
+		 *
+		 * @param interpolator interpolator of the move
+		 * @param minFraction minimum interpolated fraction
+		 * @param maxFraction maximum interpolated fraction
+		 */
+		void set(Interpolator interpolator, float minFraction, float maxFraction) {
+			this.interpolator = interpolator;
+			this.minFraction = minFraction;
+			this.maxFraction = maxFraction;
+		}
+
+		/**
+		 * Returns the interpolated fraction of the wrapped interpolator, limited to the
+		 * range set by {@link #set(Interpolator, float, float)}
+		 *
+		 * @param input elapsed fraction of the move
+		 * @return limited interpolated fraction
+		 */
+		@Override
+		public float getInterpolation(float input) {
+			return Math.max(minFraction, Math.min(maxFraction, interpolator.getInterpolation(input)));
+		}
+
+	}
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 21:02:38
+ */
+
+package com.software.shell.viewmover.movers;
+
+import android.animation.Animator;
+import android.animation.ValueAnimator;
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.View;
+import android.view.animation.AnimationUtils;
+import com.software.shell.viewmover.configuration.ReadableMovingParams;
+import com.software.shell.viewmover.logging.ViewMoverLog;
+import com.software.shell.viewmover.logging.ViewMoverTrace;
+
+/**
+ * View mover class, which moves the view by updating its visual position from the
+ * {@link android.animation.ValueAnimator} updates
+ * <p>
+ * A single value animator is created per view mover and is reused by all the moves. It runs
+ * with the linear interpolator, the interpolator of the moving params is applied on every
+ * update, so the position is clamped to the parent container bounds and the path moves are
+ * supported the same way as by the frame callback engine
+ * <p>
+ * Used for {@code TargetApi} {@link android.os.Build.VERSION_CODES#JELLY_BEAN} and higher
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+class ValueAnimatorViewMover extends PositionViewMover {
+
+	/**
+	 * Logging tag
+	 */
+	private static final String LOG_TAG = String.format("[view-mover][%s]", ValueAnimatorViewMover.class.getSimpleName());
+
+	/**
+	 * Listener of the value animator, shared by all the moves
+	 */
+	private final ValueAnimatorListener animatorListener = new ValueAnimatorListener();
+
+	/**
+	 * Value animator, which drives the moves
+	 * <p>
+	 * Is created on the first move
+	 */
+	private ValueAnimator animator;
+
+	/**
+	 * Stepping of the move
+	 */
+	private final MoveStepper stepper = new MoveStepper();
+
+	/**
+	 * Whether the view is being moved by the value animator
+	 */
+	private boolean moving;
+
+	/**
+	 * Creates an instance of the {@link com.software.shell.viewmover.movers.ValueAnimatorViewMover}
+	 *
+	 * @param view view to be moved
+	 */
+	ValueAnimatorViewMover(View view) {
+		super(view);
+	}
+
+	/**
+	 * Captures the start position of the view and starts the value animator
+	 *
+	 * @param params verified moving params
+	 */
+	@Override
+	void startMove(ReadableMovingParams params) {
+		stepper.start(this, params);
+		if (animator == null) {
+			animator = ValueAnimator.ofFloat(0.0f, 1.0f);
+			animator.setInterpolator(null);
+			animator.addUpdateListener(animatorListener);
+			animator.addListener(animatorListener);
+		}
+		animator.setDuration(params.getAnimationDuration());
+		moving = true;
+		animator.start();
+	}
+
+	/**
+	 * Cancels the value animator, leaving the view at its current position
+	 */
+	@Override
+	void stopMove() {
+		moving = false;
+		if (animator != null) {
+			animator.cancel();
+		}
+	}
+
+	/**
+	 * Cancels the value animator. The view is at its visual position already
+	 */
+	@Override
+	void stopMoveAtCurrentPosition() {
+		stopMove();
+	}
+
+	/**
+	 * Checks whether the view is being currently moved
+	 *
+	 * @return true if the view is being currently moved, otherwise false
+	 */
+	@Override
+	boolean isMoving() {
+		return moving;
+	}
+
+	/**
+	 * Is called on every update of the value animator while the view is being moved
+	 * <p>
+	 * Moves the view to the position, calculated by the interpolator for the elapsed
+	 * fraction and clamped to the parent container bounds
+	 *
+	 * @param fraction elapsed fraction of the move
+	 */
+	private void onUpdate(float fraction) {
+		stepper.step(fraction);
+		getView().setX(stepper.getX());
+		getView().setY(stepper.getY());
+		stepper.recordFrame(getMoveStats(), AnimationUtils.currentAnimationTimeMillis() * MoveStepper.NANOS_PER_MILLI);
+	}
+
+	/**
+	 * Value animator listener class
+	 * <p>
+	 * Used to update the view position and to complete the move. A single instance is
+	 * shared by all the moves
+	 */
+	private class ValueAnimatorListener implements ValueAnimator.AnimatorUpdateListener, Animator.AnimatorListener {
+
+		/**
+		 * Is called on every update of the value animator
+		 *
+		 * @param animation value animator
+		 */
+		@Override
+		public void onAnimationUpdate(ValueAnimator animation) {
+			if (!moving) {
+				return;
+			}
+			if (ViewMoverTrace.ENABLED) {
+				ViewMoverTrace.beginSection(ViewMoverTrace.SECTION_FRAME);
+			}
+			onUpdate(animation.getAnimatedFraction());
+			if (ViewMoverTrace.ENABLED) {
+				ViewMoverTrace.endSection();
+			}
+		}
+
+		@Override
+		public void onAnimationStart(Animator animation) {
+		}
+
+		@Override
+		public void onAnimationCancel(Animator animation) {
+		}
+
+		@Override
+		public void onAnimationRepeat(Animator animation) {
+		}
+
+		/**
+		 * Is called when the value animator ends
+		 * <p>
+		 * The view is at its destination already, so only the move completion is reported
+		 *
+		 * @param animation value animator
+		 */
+		@Override
+		public void onAnimationEnd(Animator animation) {
+			if (!moving) {
+				return;
+			}
+			moving = false;
+			ViewMoverLog.v(LOG_TAG, "Move completed at: x = %s, y = %s", getView().getX(), getView().getY());
+			onMoveEnded();
+		}
+
+	}
+
+}
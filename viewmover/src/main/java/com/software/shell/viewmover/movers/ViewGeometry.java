@@ -0,0 +1,231 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 12:20:14
+ */
+
+package com.software.shell.viewmover.movers;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.View;
+
+/**
+ * Snapshot of the view geometry within its parent container
+ * <p>
+ * Is captured once per move, so the bound checks read the fields of the snapshot
+ * instead of querying the view and its parent container for every bound
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+class ViewGeometry {
+
+	/**
+	 * Left position of the view relative to its parent container
+	 */
+	private int left;
+
+	/**
+	 * Top position of the view relative to its parent container
+	 */
+	private int top;
+
+	/**
+	 * Right position of the view relative to its parent container
+	 */
+	private int right;
+
+	/**
+	 * Bottom position of the view relative to its parent container
+	 */
+	private int bottom;
+
+	/**
+	 * Visual X position of the view
+	 */
+	private float x;
+
+	/**
+	 * Visual Y position of the view
+	 */
+	private float y;
+
+	/**
+	 * Width of the parent container
+	 */
+	private int parentWidth;
+
+	/**
+	 * Height of the parent container
+	 */
+	private int parentHeight;
+
+	/**
+	 * Creates an instance of the {@link com.software.shell.viewmover.movers.ViewGeometry}
+	 * <p>
+	 * The geometry is empty until it is captured by {@link #set(View, int, int)}
+	 */
+	ViewGeometry() {
+	}
+
+	/**
+	 * Creates an instance of the {@link com.software.shell.viewmover.movers.ViewGeometry}
+	 * by copying another geometry
+	 *
+	 * @param geometry geometry, which values are copied of
+	 */
+	ViewGeometry(ViewGeometry geometry) {
+		left = geometry.left;
+		top = geometry.top;
+		right = geometry.right;
+		bottom = geometry.bottom;
+		x = geometry.x;
+		y = geometry.y;
+		parentWidth = geometry.parentWidth;
+		parentHeight = geometry.parentHeight;
+	}
+
+	/**
+	 * Captures the geometry of the view
+	 * <p>
+	 * Prior to {@link android.os.Build.VERSION_CODES#HONEYCOMB} the visual position
+	 * of the view is the same as its left and top position
+	 *
+	 * @param view view, which geometry is captured
+	 * @param parentWidth width of the parent container
+	 * @param parentHeight height of the parent container
+	 */
+	@TargetApi(Build.VERSION_CODES.HONEYCOMB)
+	void set(View view, int parentWidth, int parentHeight) {
+		left = view.getLeft();
+		top = view.getTop();
+		right = view.getRight();
+		bottom = view.getBottom();
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
+			x = view.getX();
+			y = view.getY();
+		} else {
+			x = left;
+			y = top;
+		}
+		this.parentWidth = parentWidth;
+		this.parentHeight = parentHeight;
+	}
+
+	/**
+	 * Checks whether another geometry has the same values
+	 *
+	 * @param geometry geometry to be compared with
+	 * @return true if the geometry has the same values, otherwise false
+	 */
+	boolean matches(ViewGeometry geometry) {
+		return left == geometry.left && top == geometry.top && right == geometry.right
+				&& bottom == geometry.bottom && x == geometry.x && y == geometry.y
+				&& parentWidth == geometry.parentWidth && parentHeight == geometry.parentHeight;
+	}
+
+	/**
+	 * Returns the left position of the view relative to its parent container
+	 *
+	 * @return left position of the view
+	 */
+	int getLeft() {
+		return left;
+	}
+
+	/**
+	 * Returns the top position of the view relative to its parent container
+	 *
+	 * @return top position of the view
+	 */
+	int getTop() {
+		return top;
+	}
+
+	/**
+	 * Returns the right position of the view relative to its parent container
+	 *
+	 * @return right position of the view
+	 */
+	int getRight() {
+		return right;
+	}
+
+	/**
+	 * Returns the bottom position of the view relative to its parent container
+	 *
+	 * @return bottom position of the view
+	 */
+	int getBottom() {
+		return bottom;
+	}
+
+	/**
+	 * Returns the width of the view
+	 *
+	 * @return width of the view
+	 */
+	int getWidth() {
+		return right - left;
+	}
+
+	/**
+	 * Returns the height of the view
+	 *
+	 * @return height of the view
+	 */
+	int getHeight() {
+		return bottom - top;
+	}
+
+	/**
+	 * Returns the visual X position of the view
+	 *
+	 * @return visual X position of the view
+	 */
+	float getX() {
+		return x;
+	}
+
+	/**
+	 * Returns the visual Y position of the view
+	 *
+	 * @return visual Y position of the view
+	 */
+	float getY() {
+		return y;
+	}
+
+	/**
+	 * Returns the width of the parent container
+	 *
+	 * @return width of the parent container
+	 */
+	int getParentWidth() {
+		return parentWidth;
+	}
+
+	/**
+	 * Returns the height of the parent container
+	 *
+	 * @return height of the parent container
+	 */
+	int getParentHeight() {
+		return parentHeight;
+	}
+
+}
@@ -18,12 +18,24 @@
 
 package com.software.shell.viewmover.movers;
 
-import android.util.Log;
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.SystemClock;
+import android.util.DisplayMetrics;
 import android.view.View;
+import android.view.animation.AccelerateDecelerateInterpolator;
 import android.view.animation.Animation;
 import android.view.animation.Interpolator;
-import android.view.animation.TranslateAnimation;
+import com.software.shell.viewmover.configuration.ImmutableMovingParams;
+import com.software.shell.viewmover.configuration.MovePath;
+import com.software.shell.viewmover.configuration.MoveTarget;
 import com.software.shell.viewmover.configuration.MovingParams;
+import com.software.shell.viewmover.configuration.ReadableMovingParams;
+import com.software.shell.viewmover.configuration.SnapPolicy;
+import com.software.shell.viewmover.logging.ViewMoverLog;
+import com.software.shell.viewmover.logging.ViewMoverTrace;
+
+import java.util.Arrays;
 
 /**
  * Abstract class, which contains the base view movement logic
@@ -31,40 +43,321 @@ import com.software.shell.viewmover.configuration.MovingParams;
  * Is extended by subclasses, which implements specific movement logic
  *
  * @author shell
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public abstract class ViewMover {
 
+	/**
+	 * Id, which identifies no move
+	 */
+	public static final long NO_MOVE = 0L;
+
 	/**
 	 * Logging tag
 	 */
 	private static final String LOG_TAG = String.format("[view-mover][%s]", ViewMover.class.getSimpleName());
 
+	/**
+	 * Value of the {@link #previousLayerType}, which means that the layer type of the view
+	 * was not changed
+	 */
+	private static final int LAYER_TYPE_UNCHANGED = -1;
+
+	/**
+	 * Capacity of the pending moves queue, which is used by default
+	 */
+	private static final int DEFAULT_PENDING_MOVE_CAPACITY = 8;
+
+	/**
+	 * Number of the intervals the move interpolator is sampled at to find its overshoot
+	 */
+	private static final int INTERPOLATOR_RANGE_SAMPLES = 32;
+
+	/**
+	 * Number of the straight steps each path segment is swept in by the collision check
+	 */
+	private static final int PATH_COLLISION_STEPS = 16;
+
 	/**
 	 * {@link android.view.View}, which is to be moved
 	 */
 	private final View view;
 
+	/**
+	 * Copy of the moving params, which deltas were updated to fit the parent container bounds
+	 * <p>
+	 * Reused for every move to avoid allocating a copy of the params per move. Is not used
+	 * for the immutable moving params, which deltas need no update
+	 */
+	private MovingParams verifiedParams;
+
+	/**
+	 * Snapped X- and Y-axis deltas of the move being verified
+	 * <p>
+	 * Reused for every move to avoid allocating an array per move
+	 */
+	private final float[] snapScratch = new float[2];
+
+	/**
+	 * Copy of the moving params, which target was set by {@link #moveTo(MoveTarget, ReadableMovingParams)}
+	 * <p>
+	 * Reused for every absolute move to avoid allocating a copy of the params per move
+	 */
+	private MovingParams targetParams;
+
+	/**
+	 * Moving animation
+	 * <p>
+	 * Created on the first move and reused afterwards
+	 */
+	private MoveAnimation moveAnimation;
+
+	/**
+	 * Listener of the moving animation
+	 */
+	private final MoveAnimationListener moveAnimationListener = new MoveAnimationListener();
+
+	/**
+	 * Interpolator, which is used when the moving params have no interpolator set
+	 * <p>
+	 * Is the same interpolator {@link android.view.animation.Animation} uses by default
+	 */
+	private Interpolator defaultInterpolator;
+
+	/**
+	 * Geometry of the view, captured by {@link #captureGeometry()}
+	 * <p>
+	 * Reused for every capture
+	 */
+	private final ViewGeometry geometry = new ViewGeometry();
+
+	/**
+	 * Cache of the parent container size
+	 * <p>
+	 * May be shared with the movers of the other views within the same parent container
+	 */
+	private final ParentSizeCache parentSizeCache;
+
+	/**
+	 * Layer type of the view before it was promoted to the hardware layer for the move
+	 * <p>
+	 * Is {@link #LAYER_TYPE_UNCHANGED} if the view was not promoted
+	 */
+	private int previousLayerType = LAYER_TYPE_UNCHANGED;
+
+	/**
+	 * Policy of handling the moves requested while the view is being moved
+	 * <p>
+	 * By default set to {@link PendingMovePolicy#DROP}
+	 */
+	private PendingMovePolicy pendingMovePolicy = PendingMovePolicy.DROP;
+
+	/**
+	 * Policy of handling the moves, which would move the view out of its parent container
+	 * <p>
+	 * By default set to {@link BoundsPolicy#REJECT}
+	 */
+	private BoundsPolicy boundsPolicy = BoundsPolicy.REJECT;
+
+	/**
+	 * Maximum number of the moves queued by the {@link PendingMovePolicy#QUEUE} policy
+	 * <p>
+	 * By default set to {@link #DEFAULT_PENDING_MOVE_CAPACITY}
+	 */
+	private int pendingMoveCapacity = DEFAULT_PENDING_MOVE_CAPACITY;
+
+	/**
+	 * Ring buffer of the pending moves
+	 * <p>
+	 * Allocated when the first move is kept. The slots are reused afterwards
+	 */
+	private MovingParams[] pendingMoves;
+
+	/**
+	 * Index of the first pending move in the {@link #pendingMoves}
+	 */
+	private int pendingMoveHead;
+
+	/**
+	 * Number of the pending moves
+	 */
+	private int pendingMoveCount;
+
+	/**
+	 * Runnable, which performs the next pending move
+	 */
+	private final Runnable pendingMoveRunnable = new Runnable() {
+		@Override
+		public void run() {
+			performPendingMove();
+		}
+	};
+
+	/**
+	 * Ids of the pending moves, stored in the same slots as the {@link #pendingMoves}
+	 */
+	private long[] pendingMoveIds;
+
+	/**
+	 * Listeners of the moves
+	 * <p>
+	 * The array is replaced when a listener is added or removed, so the listeners can
+	 * be added or removed from the callbacks
+	 */
+	private OnMoveListener[] moveListeners = new OnMoveListener[0];
+
+	/**
+	 * Id of the last requested move
+	 */
+	private long lastMoveId = NO_MOVE;
+
+	/**
+	 * Id of the move in progress
+	 * <p>
+	 * Is {@link #NO_MOVE} if the view is not being moved
+	 */
+	private long currentMoveId = NO_MOVE;
+
+	/**
+	 * Id of the last move, which and all the moves requested before it are either ended or cancelled
+	 */
+	private long lastDoneMoveId = NO_MOVE;
+
+	/**
+	 * Whether the move animation is being cleared by {@link #cancel()}
+	 */
+	private boolean animationCancelled;
+
+	/**
+	 * Performance stats the moves are recorded to
+	 * <p>
+	 * Is {@code null} unless set by {@link #setMoveStats(MoveStats)}
+	 */
+	private MoveStats moveStats;
+
+	/**
+	 * Time in ms the move in progress was started at
+	 */
+	private long moveStartTime;
+
+	/**
+	 * Requested duration of the move in progress in ms
+	 */
+	private long moveDuration;
+
+	/**
+	 * Group of the sibling views, which the view must not overlap
+	 * <p>
+	 * Is {@code null} unless set by {@link #setCollisionGroup(CollisionGroup)}
+	 */
+	private CollisionGroup collisionGroup;
+
+	/**
+	 * Slot of the view in the {@link #collisionGroup}
+	 */
+	private int collisionSlot;
+
+	/**
+	 * Path the view is being moved along
+	 * <p>
+	 * Is {@code null} if the view is moved along the straight line
+	 */
+	private MovePath movePath;
+
+	/**
+	 * Arc length of the path the view is being moved along, which fits the parent container
+	 */
+	private float movePathLength;
+
+	/**
+	 * Scratch array the path points and bounds are written into
+	 * <p>
+	 * Allocated on the first path move only
+	 */
+	private float[] pathScratch;
+
+	/**
+	 * Interpolator, which range was sampled last
+	 * <p>
+	 * The interpolators are usually reused across the moves, so the range is sampled
+	 * once per interpolator
+	 */
+	private Interpolator rangeInterpolator;
+
+	/**
+	 * Minimum value the {@link #rangeInterpolator} returns, which is negative if the
+	 * interpolator anticipates the move
+	 */
+	private float interpolatorMin;
+
+	/**
+	 * Maximum value the {@link #rangeInterpolator} returns, which is greater than
+	 * {@code 1} if the interpolator overshoots the destination
+	 */
+	private float interpolatorMax;
+
+	/**
+	 * X-axis delta in actual pixels accumulated by {@link #drag(float, float)}
+	 * and not yet applied to the view
+	 */
+	private float dragXAxisDelta;
+
+	/**
+	 * Y-axis delta in actual pixels accumulated by {@link #drag(float, float)}
+	 * and not yet applied to the view
+	 */
+	private float dragYAxisDelta;
+
+	/**
+	 * Whether applying the accumulated drag deltas is scheduled for the next frame
+	 */
+	private boolean dragScheduled;
+
+	/**
+	 * Runnable, which applies the accumulated drag deltas
+	 */
+	private final Runnable dragRunnable = new Runnable() {
+		@Override
+		public void run() {
+			applyDrag();
+		}
+	};
+
 	/**
 	 * Creates an instance of the {@link com.software.shell.viewmover.movers.ViewMover}
 	 *
 	 * @param view {@link android.view.View}, which is to be moved
 	 */
 	ViewMover(View view) {
+		this(view, new ParentSizeCache());
+	}
+
+	/**
+	 * Creates an instance of the {@link com.software.shell.viewmover.movers.ViewMover}, which
+	 * reads the size of the parent container from the shared cache
+	 *
+	 * @param view {@link android.view.View}, which is to be moved
+	 * @param parentSizeCache cache of the parent container size, shared with the movers of
+	 *                        the other views within the same parent container
+	 */
+	ViewMover(View view, ParentSizeCache parentSizeCache) {
 		this.view = view;
+		this.parentSizeCache = parentSizeCache;
 	}
 
 	/**
 	 * Is called to calculate the end X point of the view's left bound
 	 * <p>
 	 * Used to check whether there is enough space inside parent container to move the view
-	 * to the left
+	 * to the left. The bound calculations must read the geometry only, as they are also called
+	 * off the UI thread by {@link #plan(GeometrySnapshot, ReadableMovingParams)}
 	 *
+	 * @param geometry geometry of the view, captured when the move started
 	 * @param xAxisDelta X-axis delta in actual pixels
 	 * @return end X point of the view's left bound
 	 */
-	abstract int calculateEndLeftBound(float xAxisDelta);
+	abstract int calculateEndLeftBound(ViewGeometry geometry, float xAxisDelta);
 
 	/**
 	 * Is called to calculate the end X point of the view's right bound
@@ -72,10 +365,11 @@ public abstract class ViewMover {
 	 * Used to check whether there is enough space inside parent container to move the view
 	 * to the right
 	 *
+	 * @param geometry geometry of the view, captured when the move started
 	 * @param xAxisDelta X-axis delta in actual pixels
 	 * @return end X point of the view's right bound
 	 */
-	abstract int calculateEndRightBound(float xAxisDelta);
+	abstract int calculateEndRightBound(ViewGeometry geometry, float xAxisDelta);
 
 	/**
 	 * Is called to calculate the end Y point of the view's top bound
@@ -83,10 +377,11 @@ public abstract class ViewMover {
 	 * Used to check whether there is enough space inside parent container to move the view
 	 * to the top
 	 *
+	 * @param geometry geometry of the view, captured when the move started
 	 * @param yAxisDelta Y-axis delta in actual pixels
 	 * @return end Y point of the view's top bound
 	 */
-	abstract int calculateEndTopBound(float yAxisDelta);
+	abstract int calculateEndTopBound(ViewGeometry geometry, float yAxisDelta);
 
 	/**
 	 * Is called to calculate the end Y point of the view's bottom bound
@@ -94,10 +389,44 @@ public abstract class ViewMover {
 	 * Used to check whether there is enough space inside parent container to move the view
 	 * to the bottom
 	 *
+	 * @param geometry geometry of the view, captured when the move started
 	 * @param yAxisDelta Y-axis delta in actual pixels
 	 * @return end Y point of the view's bottom bound
 	 */
-	abstract int calculateEndBottomBound(float yAxisDelta);
+	abstract int calculateEndBottomBound(ViewGeometry geometry, float yAxisDelta);
+
+	/**
+	 * Returns the part of the axis delta, which {@link #changeViewPosition(float, float)}
+	 * applies to the view, according to the precision the view position is changed with
+	 *
+	 * @param delta axis delta in actual pixels
+	 * @return applied part of the axis delta in actual pixels
+	 */
+	abstract float getAppliedAxisDelta(float delta);
+
+	/**
+	 * Returns the current left position of the view within its parent container
+	 * <p>
+	 * Used to calculate the deltas of the absolute moves and the snapped destinations
+	 *
+	 * @param geometry geometry of the view, captured when the move started
+	 * @return current left position of the view in actual pixels
+	 */
+	float getCurrentLeft(ViewGeometry geometry) {
+		return calculateEndLeftBound(geometry, 0.0f);
+	}
+
+	/**
+	 * Returns the current top position of the view within its parent container
+	 * <p>
+	 * Used to calculate the deltas of the absolute moves and the snapped destinations
+	 *
+	 * @param geometry geometry of the view, captured when the move started
+	 * @return current top position of the view in actual pixels
+	 */
+	float getCurrentTop(ViewGeometry geometry) {
+		return calculateEndTopBound(geometry, 0.0f);
+	}
 
 	/**
 	 * Is called when move animation completes
@@ -127,180 +456,1494 @@ public abstract class ViewMover {
 		return (View) view.getParent();
 	}
 
+	/**
+	 * Captures the geometry of the view and its parent container
+	 * <p>
+	 * The size of the parent container is cached and read again only after the parent
+	 * container is laid out
+	 *
+	 * @return captured geometry of the view
+	 */
+	ViewGeometry captureGeometry() {
+		parentSizeCache.update(getParentView());
+		geometry.set(view, parentSizeCache.getWidth(), parentSizeCache.getHeight());
+		return geometry;
+	}
+
+	/**
+	 * Returns the geometry of the view, captured by the last {@link #captureGeometry()} call
+	 *
+	 * @return last captured geometry of the view
+	 */
+	ViewGeometry getGeometry() {
+		return geometry;
+	}
+
 	/**
 	 * Moves the view based on the {@link MovingParams}
+	 * <p>
+	 * If the view is being currently moved, the move is handled according to the
+	 * {@link #getPendingMovePolicy()}
 	 *
 	 * @param params params of the move action
+	 * @return id of the move, which is reported to the {@link OnMoveListener}. If the move
+	 *         is merged into the pending one, the id of the pending move is returned
 	 */
-	public void move(MovingParams params) {
-		if (isPreviousAnimationCompleted()) {
-			MovingParams verifiedParams = getVerifiedMovingParams(params);
-			if (isMoveNonZero(verifiedParams)) {
-				final Animation moveAnimation = createAnimation(verifiedParams);
-				Log.v(LOG_TAG, String.format("View is about to be moved at: delta X-axis = %s, delta Y-axis = %s",
-						verifiedParams.getXAxisDelta(), verifiedParams.getYAxisDelta()));
-				view.startAnimation(moveAnimation);
-			}
+	public long move(ReadableMovingParams params) {
+		long moveId = ++lastMoveId;
+		if (isMoving() || pendingMoveCount > 0) {
+			moveId = deferMove(params, moveId);
+		} else {
+			performMove(params, moveId);
 		}
+		updateLastDoneMoveId();
+		return moveId;
 	}
 
 	/**
-	 * Checks whether previous animation on the view completed
+	 * Moves the view based on the {@link MovingParams}, changing the destination of the
+	 * current move if the view is being currently moved
+	 * <p>
+	 * The deltas are relative to the current visual position of the view. The
+	 * {@link MoveEngine#FRAME_CALLBACK} engine continues the move smoothly from the current
+	 * position and velocity of the view. The other engines stop the move in progress at the
+	 * current visual position of the view and start the new move from there, so the view keeps
+	 * its position, but starts the new move at rest. The pending moves stay queued after the
+	 * retargeted move. If the view is not being moved, the call is the same as
+	 * {@link #move(ReadableMovingParams)}
 	 *
-	 * @return true if previous animation on the view completed, otherwise false
+	 * @param params params of the move action
+	 * @return id of the move, which is reported to the {@link OnMoveListener}. The move in
+	 *         progress is reported as cancelled
 	 */
-	boolean isPreviousAnimationCompleted() {
-		Animation previousAnimation = view.getAnimation();
-		boolean previousAnimationCompleted = previousAnimation == null || previousAnimation.hasEnded();
-		if (!previousAnimationCompleted) {
-			Log.w(LOG_TAG, "Unable to move the view. View is being currently moving");
+	public long retarget(ReadableMovingParams params) {
+		if (!isMoving()) {
+			return move(params);
+		}
+		long supersededMoveId = currentMoveId;
+		stopMoveAtCurrentPosition();
+		currentMoveId = NO_MOVE;
+		ViewMoverLog.v(LOG_TAG, "Move stopped at the current position to be retargeted");
+		long moveId = ++lastMoveId;
+		performMove(params, moveId);
+		if (currentMoveId == NO_MOVE) {
+			updateCollisionBounds(0.0f, 0.0f);
+			if (previousLayerType != LAYER_TYPE_UNCHANGED) {
+				restoreLayerType();
+			}
+			if (pendingMoveCount > 0) {
+				postOnNextFrame(pendingMoveRunnable);
+			}
+		}
+		if (supersededMoveId != NO_MOVE) {
+			dispatchMoveCancelled(supersededMoveId);
 		}
-		return previousAnimationCompleted;
+		updateLastDoneMoveId();
+		return moveId;
 	}
 
 	/**
-	 * Checks whether both X-axis and Y-axis delta of the moving details are not {@code zero}
+	 * Moves the view to the absolute destination
+	 * <p>
+	 * The deltas of the moving params are ignored and are calculated from the geometry of the
+	 * view captured when the move starts, so the move, which is kept by the pending move policy,
+	 * is resolved against the position the view has after the current move completes. The other
+	 * moving params are used the same way as by {@link #move(ReadableMovingParams)}
 	 *
-	 * @param details moving details, which needs to be checked
-	 * @return true, if any of the X-axis or Y-axis delta of the moving details are {@code zero},
-	 *         otherwise false
+	 * @param target absolute destination of the move
+	 * @param params params of the move action
+	 * @return id of the move, which is reported to the {@link OnMoveListener}
+	 * @see MovingParams#setTarget(MoveTarget)
 	 */
-	boolean isMoveNonZero(MovingParams details) {
-		boolean moveNonZero = details.getXAxisDelta() != 0.0f
-				|| details.getYAxisDelta() != 0.0f;
-		if (!moveNonZero) {
-			Log.w(LOG_TAG, "Zero movement detected. No movement will be performed");
+	public long moveTo(MoveTarget target, ReadableMovingParams params) {
+		if (targetParams == null) {
+			targetParams = new MovingParams(params);
+		} else {
+			targetParams.set(params);
 		}
-		return moveNonZero;
+		targetParams.setTarget(target);
+		return move(targetParams);
+	}
+
+	/**
+	 * Cancels the move in progress and discards the pending moves
+	 * <p>
+	 * All the cancelled moves are reported to the {@link OnMoveListener#onMoveCancelled(ViewMover, long)}.
+	 * Moves based on the view animation leave the view at its position before the move,
+	 * moves based on the frame callback leave the view at its current position
+	 */
+	public void cancel() {
+		long moveId = currentMoveId;
+		if (moveId != NO_MOVE) {
+			stopMove();
+			currentMoveId = NO_MOVE;
+			if (collisionGroup != null) {
+				captureGeometry();
+				updateCollisionBounds(0.0f, 0.0f);
+			}
+			if (previousLayerType != LAYER_TYPE_UNCHANGED) {
+				restoreLayerType();
+			}
+			ViewMoverLog.v(LOG_TAG, "Move cancelled");
+			dispatchMoveCancelled(moveId);
+		}
+		clearPendingMoves();
+		updateLastDoneMoveId();
+	}
+
+	/**
+	 * Stops the move in progress without changing the view position
+	 * <p>
+	 * Subclasses, which override {@link #startMove(ReadableMovingParams)}, must override it as well
+	 */
+	void stopMove() {
+		animationCancelled = true;
+		view.clearAnimation();
+		animationCancelled = false;
+	}
+
+	/**
+	 * Stops the move in progress, leaving the view at its current visual position
+	 * <p>
+	 * By default commits the translation of the last frame of the move animation to the view
+	 * position, since clearing the animation would return the view to its position before the
+	 * move. Subclasses, which keep the view at its visual position while moving it, must
+	 * override it to just stop the move
+	 */
+	void stopMoveAtCurrentPosition() {
+		if (moveAnimation == null || view.getAnimation() != moveAnimation) {
+			stopMove();
+			return;
+		}
+		float xAxisDelta = moveAnimation.getCurrentXAxisDelta();
+		float yAxisDelta = moveAnimation.getCurrentYAxisDelta();
+		stopMove();
+		captureGeometry();
+		commitCurrentPosition(xAxisDelta, yAxisDelta);
 	}
 
 	/**
-	 * Creates an updated copy of the {@link MovingParams}
-	 * with X-axis and Y-axis deltas updated based on calculations returned from
-	 * {@link #updateXAxisDelta(MovingParams)} and
-	 * {@link #updateYAxisDelta(MovingParams)}
+	 * Commits the translation of the stopped move animation to the view position
+	 * <p>
+	 * The geometry captured by the move, which starts right after, must already show the
+	 * committed position. Subclasses, which change the view position with a layout pass,
+	 * must override it to update the view bounds immediately
 	 *
-	 * @param params moving params, which needs to be updated
+	 * @param xAxisDelta X-axis delta of the last frame in actual pixels
+	 * @param yAxisDelta Y-axis delta of the last frame in actual pixels
 	 */
-	private MovingParams getVerifiedMovingParams(final MovingParams params) {
-		MovingParams mParams = new MovingParams(params);
-		updateXAxisDelta(mParams);
-		updateYAxisDelta(mParams);
-		Log.v(LOG_TAG, String.format("Updated moving details values: X-axis from %s to %s, Y-axis from %s to %s",
-				params.getXAxisDelta(), mParams.getXAxisDelta(), params.getYAxisDelta(), mParams.getYAxisDelta()));
-		return mParams;
+	void commitCurrentPosition(float xAxisDelta, float yAxisDelta) {
+		changeViewPosition(xAxisDelta, yAxisDelta);
 	}
 
 	/**
-	 * Updates the X-axis delta in moving details based on checking whether
-	 * there is enough space left to move the view horizontally
+	 * Adds the listener of the moves
 	 *
-	 * @param details moving details, which X-axis delta needs to be updated in
+	 * @param listener listener of the moves
 	 */
-	private void updateXAxisDelta(MovingParams details) {
-		if (!hasHorizontalSpaceToMove(details.getXAxisDelta())) {
-			Log.w(LOG_TAG, "Unable to move the view horizontally. No horizontal space left to move");
-			details.setXAxisDelta(0.0f);
+	public void addOnMoveListener(OnMoveListener listener) {
+		for (OnMoveListener moveListener : moveListeners) {
+			if (moveListener == listener) {
+				return;
+			}
 		}
+		OnMoveListener[] listeners = Arrays.copyOf(moveListeners, moveListeners.length + 1);
+		listeners[moveListeners.length] = listener;
+		moveListeners = listeners;
 	}
 
 	/**
-	 * Updates the Y-axis delta in moving details based on checking whether
-	 * there is enough space left to move the view vertically
+	 * Removes the listener of the moves
 	 *
-	 * @param details moving details, which Y-axis delta needs to be updated in
+	 * @param listener listener of the moves
 	 */
-	private void updateYAxisDelta(MovingParams details) {
-		if (!hasVerticalSpaceToMove(details.getYAxisDelta())) {
-			Log.w(LOG_TAG, "Unable to move the view vertically. No vertical space left to move");
-			details.setYAxisDelta(0.0f);
+	public void removeOnMoveListener(OnMoveListener listener) {
+		for (int i = 0; i < moveListeners.length; i++) {
+			if (moveListeners[i] == listener) {
+				OnMoveListener[] listeners = new OnMoveListener[moveListeners.length - 1];
+				System.arraycopy(moveListeners, 0, listeners, 0, i);
+				System.arraycopy(moveListeners, i + 1, listeners, i, listeners.length - i);
+				moveListeners = listeners;
+				return;
+			}
 		}
 	}
 
 	/**
-	 * Checks whether there is enough space left to move the view horizontally within
-	 * its parent container
+	 * Checks whether the move and all the moves requested before it are either ended
+	 * or cancelled
 	 * <p>
-	 * Calls {@link #calculateEndLeftBound(float)} and {@link #calculateEndRightBound(float)}
-	 * to calculate the resulting X coordinate of the view's left and right bounds
+	 * Allows to wait for the move without registering the listener
 	 *
-	 * @param xAxisDelta X-axis delta in actual pixels
-	 * @return true if there is enough space to move the view horizontally, otherwise false
+	 * @param moveId id of the move
+	 * @return true if the move and all the moves requested before it are done, otherwise false
 	 */
-	private boolean hasHorizontalSpaceToMove(float xAxisDelta) {
-		int parentWidth = getParentView().getWidth();
-		Log.v(LOG_TAG, "Parent view width is: " + parentWidth);
-		int endLeftBound = calculateEndLeftBound(xAxisDelta);
-		int endRightBound = calculateEndRightBound(xAxisDelta);
-		Log.v(LOG_TAG, String.format("Calculated end bounds: left = %s, right = %s", endLeftBound, endRightBound));
-		return endLeftBound >= 0 && endRightBound <= parentWidth;
+	public boolean isMoveDone(long moveId) {
+		return moveId <= lastDoneMoveId;
 	}
 
 	/**
-	 * Checks whether there is enough space left to move the view vertically within
-	 * its parent container
-	 * <p>
-	 * Calls {@link #calculateEndTopBound(float)} and {@link #calculateEndBottomBound(float)}
-	 * to calculate the resulting Y coordinate of the view's top and bottom bounds
+	 * Returns the id of the move in progress
 	 *
-	 * @param yAxisDelta Y-axis delta in actual pixels
-	 * @return true if there is enough space to move the view vertically, otherwise false
+	 * @return id of the move in progress, or {@link #NO_MOVE} if the view is not being moved
 	 */
-	private boolean hasVerticalSpaceToMove(float yAxisDelta) {
-		int parentHeight = getParentView().getHeight();
-		Log.v(LOG_TAG, "Parent view height is: " + parentHeight);
-		int endTopBound = calculateEndTopBound(yAxisDelta);
-		int endBottomBound = calculateEndBottomBound(yAxisDelta);
-		Log.v(LOG_TAG, String.format("Calculated end bounds: top = %s, bottom = %s", endTopBound, endBottomBound));
-		return endTopBound >= 0 && endBottomBound <= parentHeight;
+	public long getCurrentMoveId() {
+		return currentMoveId;
 	}
 
 	/**
-	 * Creates the moving animation
-	 * <p>
-	 * Configures the moving animation based on moving params
+	 * Returns the group of the sibling views, which the view must not overlap
 	 *
-	 * @param params params, which is used to configure the moving animation
-	 * @return moving animation
+	 * @return collision group, or {@code null} if the view may overlap its siblings
 	 */
-	private Animation createAnimation(MovingParams params) {
-		Animation animation = new TranslateAnimation(0, params.getXAxisDelta(), 0, params.getYAxisDelta());
-		animation.setFillEnabled(true);
-		animation.setFillBefore(false);
-		animation.setDuration(params.getAnimationDuration());
-		Interpolator interpolator = params.getAnimationInterpolator();
-		if (interpolator != null) {
-			animation.setInterpolator(interpolator);
-		}
-		animation.setAnimationListener(new MoveAnimationListener(params));
-		return animation;
+	public CollisionGroup getCollisionGroup() {
+		return collisionGroup;
 	}
 
 	/**
-	 * Move animation listener class
+	 * Sets the group of the sibling views, which the view must not overlap
 	 * <p>
-	 * Used to listen the animation and call the {@link #changeViewPosition(float, float)}
-	 * when animation completes
+	 * The move, which would make the view overlap the other view of the group, is handled
+	 * according to the {@link #getBoundsPolicy()}: with the {@link BoundsPolicy#REJECT} policy
+	 * the move is discarded, with the {@link BoundsPolicy#CLAMP} policy the view stops when it
+	 * touches the other view. The overshoot and the anticipation of the move interpolator, such
+	 * as the spring one, are checked as well, so the view stops short enough to not overshoot
+	 * into the other view. The interpolator range is sampled at a fixed number of
+	 * points, so very narrow peaks may be missed. The path moves are checked segment by segment:
+	 * with the {@link BoundsPolicy#REJECT} policy the view stops at the end of the last segment,
+	 * which passes by the other views, with the {@link BoundsPolicy#CLAMP} policy the view stops
+	 * on the path when it touches the other view. The view is not in any group by default
+	 *
+	 * @param collisionGroup collision group, or {@code null} to leave the current group
 	 */
-	private class MoveAnimationListener implements Animation.AnimationListener {
-
-		/**
-		 * Moving details
-		 */
-		private final MovingParams details;
-
-		/**
-		 * Creates an instance of the
-		 * {@link com.software.shell.viewmover.movers.ViewMover.MoveAnimationListener}
-		 *
-		 * @param details moving details
-		 */
-		private MoveAnimationListener(MovingParams details) {
-			this.details = details;
+	public void setCollisionGroup(CollisionGroup collisionGroup) {
+		if (this.collisionGroup != null) {
+			this.collisionGroup.remove(collisionSlot);
 		}
-
-		@Override
-		public void onAnimationStart(Animation animation) {
+		this.collisionGroup = collisionGroup;
+		if (collisionGroup != null) {
+			ViewGeometry geometry = captureGeometry();
+			collisionSlot = collisionGroup.add(calculateEndLeftBound(geometry, 0.0f),
+					calculateEndTopBound(geometry, 0.0f), calculateEndRightBound(geometry, 0.0f),
+					calculateEndBottomBound(geometry, 0.0f));
+		}
+	}
+
+	/**
+	 * Updates the bounds of the view in the collision group, if any, to the bounds
+	 * the view has after the move
+	 * <p>
+	 * The geometry must be captured by {@link #captureGeometry()} before the call
+	 *
+	 * @param xAxisDelta X-axis delta of the move in actual pixels
+	 * @param yAxisDelta Y-axis delta of the move in actual pixels
+	 */
+	void updateCollisionBounds(float xAxisDelta, float yAxisDelta) {
+		if (collisionGroup != null) {
+			collisionGroup.update(collisionSlot, calculateEndLeftBound(geometry, xAxisDelta),
+					calculateEndTopBound(geometry, yAxisDelta), calculateEndRightBound(geometry, xAxisDelta),
+					calculateEndBottomBound(geometry, yAxisDelta));
+		}
+	}
+
+	/**
+	 * Calculates the fraction of the move, which the view can make before it touches
+	 * the other view of the collision group
+	 * <p>
+	 * If the interpolator overshoots or anticipates the move, the view sweeps beyond its
+	 * destination or behind its start, so the sweeps are extended by the interpolator range
+	 * and the move is limited to keep the whole sweep free. The geometry must be captured
+	 * by {@link #captureGeometry()} before the call
+	 *
+	 * @param xAxisDelta X-axis delta of the move in actual pixels
+	 * @param yAxisDelta Y-axis delta of the move in actual pixels
+	 * @param interpolator interpolator of the move, or {@code null} if the view is moved
+	 *                     straight to its destination
+	 * @return fraction of the move from {@code 0} to {@code 1}
+	 */
+	private float getCollisionFreeFraction(float xAxisDelta, float yAxisDelta, Interpolator interpolator) {
+		if (collisionGroup == null || (xAxisDelta == 0.0f && yAxisDelta == 0.0f)) {
+			return 1.0f;
+		}
+		float minProgress = 0.0f;
+		float maxProgress = 1.0f;
+		if (interpolator != null) {
+			sampleInterpolatorRange(interpolator);
+			minProgress = interpolatorMin;
+			maxProgress = interpolatorMax;
+		}
+		int left = calculateEndLeftBound(geometry, 0.0f);
+		int top = calculateEndTopBound(geometry, 0.0f);
+		int right = calculateEndRightBound(geometry, 0.0f);
+		int bottom = calculateEndBottomBound(geometry, 0.0f);
+		float fraction = collisionGroup.getAllowedFraction(collisionSlot, left, top, right, bottom,
+				xAxisDelta * maxProgress, yAxisDelta * maxProgress);
+		if (minProgress < 0.0f) {
+			fraction = Math.min(fraction, collisionGroup.getAllowedFraction(collisionSlot, left, top, right, bottom,
+					xAxisDelta * minProgress, yAxisDelta * minProgress));
+		}
+		if (fraction < 1.0f) {
+			ViewMoverLog.w(LOG_TAG, "Move is limited to avoid the overlap with the sibling view");
+		}
+		return fraction;
+	}
+
+	/**
+	 * Samples the range of the values the interpolator returns, unless it is sampled already
+	 *
+	 * @param interpolator interpolator of the move
+	 */
+	private void sampleInterpolatorRange(Interpolator interpolator) {
+		if (interpolator == rangeInterpolator) {
+			return;
+		}
+		float min = 0.0f;
+		float max = 1.0f;
+		for (int i = 1; i < INTERPOLATOR_RANGE_SAMPLES; i++) {
+			float value = interpolator.getInterpolation((float) i / INTERPOLATOR_RANGE_SAMPLES);
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+		}
+		interpolatorMin = min;
+		interpolatorMax = max;
+		rangeInterpolator = interpolator;
+		ViewMoverLog.v(LOG_TAG, "Interpolator range sampled: min = %s, max = %s", min, max);
+	}
+
+	/**
+	 * Limits the axis delta to the fraction of the move, which the view can make without
+	 * overlapping the other view of the collision group, according to the {@link #getBoundsPolicy()}
+	 *
+	 * @param delta axis delta in actual pixels
+	 * @param fraction fraction of the move, calculated by {@link #getCollisionFreeFraction(float, float, Interpolator)}
+	 * @return limited axis delta in actual pixels
+	 */
+	private float limitToCollisionFreeFraction(float delta, float fraction) {
+		if (fraction >= 1.0f) {
+			return delta;
+		}
+		return boundsPolicy == BoundsPolicy.CLAMP ? (int) (delta * fraction) : 0.0f;
+	}
+
+	/**
+	 * Returns the performance stats the moves are recorded to
+	 *
+	 * @return performance stats, or {@code null} if the moves are not recorded
+	 */
+	public MoveStats getMoveStats() {
+		return moveStats;
+	}
+
+	/**
+	 * Sets the performance stats the moves are recorded to
+	 * <p>
+	 * The stats are not recorded by default. The same stats can be set to several view movers
+	 *
+	 * @param moveStats performance stats, or {@code null} to stop recording the moves
+	 */
+	public void setMoveStats(MoveStats moveStats) {
+		this.moveStats = moveStats;
+	}
+
+	/**
+	 * Records the start of the move to the performance stats, if any
+	 *
+	 * @param params verified moving params
+	 */
+	void recordMoveStarted(ReadableMovingParams params) {
+		if (moveStats != null) {
+			moveStats.recordMoveStarted();
+			moveStartTime = SystemClock.uptimeMillis();
+			moveDuration = params.getAnimationDuration();
+		}
+	}
+
+	/**
+	 * Replaces the move in progress with the new one, which is reported under the new id
+	 * <p>
+	 * Is called by the subclasses, which change the destination of the move in progress.
+	 * The replaced move is reported as cancelled
+	 *
+	 * @return id of the new move
+	 */
+	long supersedeMove() {
+		long supersededMoveId = currentMoveId;
+		currentMoveId = ++lastMoveId;
+		dispatchMoveCancelled(supersededMoveId);
+		updateLastDoneMoveId();
+		return currentMoveId;
+	}
+
+	/**
+	 * Updates the id of the last move, which and all the moves requested before it are done
+	 */
+	private void updateLastDoneMoveId() {
+		long doneMoveId = lastMoveId;
+		if (currentMoveId != NO_MOVE) {
+			doneMoveId = Math.min(doneMoveId, currentMoveId - 1);
+		}
+		if (pendingMoveCount > 0) {
+			doneMoveId = Math.min(doneMoveId, pendingMoveIds[pendingMoveHead] - 1);
+		}
+		lastDoneMoveId = Math.max(lastDoneMoveId, doneMoveId);
+	}
+
+	/**
+	 * Reports the ended move to the listeners
+	 *
+	 * @param moveId id of the ended move
+	 */
+	private void dispatchMoveEnded(long moveId) {
+		OnMoveListener[] listeners = moveListeners;
+		for (OnMoveListener listener : listeners) {
+			listener.onMoveEnded(this, moveId);
+		}
+	}
+
+	/**
+	 * Reports the cancelled move to the listeners
+	 *
+	 * @param moveId id of the cancelled move
+	 */
+	private void dispatchMoveCancelled(long moveId) {
+		if (moveStats != null) {
+			moveStats.recordMoveCancelled();
+		}
+		OnMoveListener[] listeners = moveListeners;
+		for (OnMoveListener listener : listeners) {
+			listener.onMoveCancelled(this, moveId);
+		}
+	}
+
+	/**
+	 * Moves the view along the path
+	 * <p>
+	 * The whole path is driven by a single move with the animation duration and interpolator
+	 * of the moving params, the deltas of the moving params are ignored. Each segment of the
+	 * path is checked against the parent container bounds. With the {@link BoundsPolicy#REJECT}
+	 * policy the view stops at the end of the last segment, which fits the parent container.
+	 * With the {@link BoundsPolicy#CLAMP} policy the view slides along the parent container edges.
+	 * If the view is being currently moved, the path move is dropped
+	 *
+	 * @param path path the view is moved along. Must not be changed while the view is being moved
+	 * @param params params of the move action
+	 * @return id of the move, which is reported to the {@link OnMoveListener}
+	 */
+	public long moveAlong(MovePath path, ReadableMovingParams params) {
+		long moveId = ++lastMoveId;
+		if (isMoving() || pendingMoveCount > 0) {
+			ViewMoverLog.w(LOG_TAG, "Unable to move the view along the path. View is being currently moving");
+			if (moveStats != null) {
+				moveStats.recordMoveRejected();
+			}
+			dispatchMoveCancelled(moveId);
+			updateLastDoneMoveId();
+			return moveId;
+		}
+		if (pathScratch == null) {
+			pathScratch = new float[4];
+		}
+		captureGeometry();
+		if (ViewMoverTrace.ENABLED) {
+			ViewMoverTrace.beginSection(ViewMoverTrace.SECTION_VALIDATE);
+		}
+		float length = calculateCollisionFreePathLength(path, calculateAllowedPathLength(path));
+		if (ViewMoverTrace.ENABLED) {
+			ViewMoverTrace.endSection();
+		}
+		if (length <= 0.0f) {
+			ViewMoverLog.w(LOG_TAG, "Unable to move the view along the path. No space left to move");
+			if (moveStats != null) {
+				moveStats.recordMoveZeroed();
+			}
+			dispatchMoveCancelled(moveId);
+			updateLastDoneMoveId();
+			return moveId;
+		}
+		path.getPoint(length, pathScratch);
+		float xAxisDelta = Math.max(getMinXAxisDelta(geometry), Math.min(getMaxXAxisDelta(geometry), pathScratch[0]));
+		float yAxisDelta = Math.max(getMinYAxisDelta(geometry), Math.min(getMaxYAxisDelta(geometry), pathScratch[1]));
+		if (collisionGroup != null && collisionGroup.intersects(collisionSlot, calculateEndLeftBound(geometry, xAxisDelta),
+				calculateEndTopBound(geometry, yAxisDelta), calculateEndRightBound(geometry, xAxisDelta),
+				calculateEndBottomBound(geometry, yAxisDelta))) {
+			ViewMoverLog.w(LOG_TAG, "Unable to move the view along the path. The path ends on the sibling view");
+			if (moveStats != null) {
+				moveStats.recordMoveZeroed();
+			}
+			dispatchMoveCancelled(moveId);
+			updateLastDoneMoveId();
+			return moveId;
+		}
+		if (moveStats != null && (length < path.getLength() || xAxisDelta != pathScratch[0]
+				|| yAxisDelta != pathScratch[1])) {
+			moveStats.recordMoveClamped();
+		}
+		if (verifiedParams == null) {
+			verifiedParams = new MovingParams(params);
+		} else {
+			verifiedParams.set(params);
+		}
+		verifiedParams.setXAxisDeltaInPixels(xAxisDelta);
+		verifiedParams.setYAxisDeltaInPixels(yAxisDelta);
+		ViewMoverLog.v(LOG_TAG, "View is about to be moved along the path to: delta X-axis = %s, " +
+				"delta Y-axis = %s", xAxisDelta, yAxisDelta);
+		if (params.isHardwareLayerEnabled()) {
+			promoteToHardwareLayer();
+		}
+		movePath = path;
+		movePathLength = length;
+		updateCollisionBounds(xAxisDelta, yAxisDelta);
+		currentMoveId = moveId;
+		recordMoveStarted(verifiedParams);
+		if (ViewMoverTrace.ENABLED) {
+			ViewMoverTrace.beginSection(ViewMoverTrace.SECTION_START);
+		}
+		startMove(verifiedParams);
+		if (ViewMoverTrace.ENABLED) {
+			ViewMoverTrace.endSection();
+		}
+		return moveId;
+	}
+
+	/**
+	 * Calculates the arc length of the path, which the view is moved along within its
+	 * parent container according to the {@link #getBoundsPolicy()}
+	 * <p>
+	 * Uses the geometry captured by {@link #captureGeometry()}
+	 *
+	 * @param path path the view is moved along
+	 * @return allowed arc length of the path in actual pixels
+	 */
+	private float calculateAllowedPathLength(MovePath path) {
+		if (boundsPolicy == BoundsPolicy.CLAMP) {
+			return path.getLength();
+		}
+		float minXAxisDelta = getMinXAxisDelta(geometry);
+		float maxXAxisDelta = getMaxXAxisDelta(geometry);
+		float minYAxisDelta = getMinYAxisDelta(geometry);
+		float maxYAxisDelta = getMaxYAxisDelta(geometry);
+		float length = 0.0f;
+		for (int i = 0; i < path.getSegmentCount(); i++) {
+			path.getSegmentBounds(i, pathScratch);
+			if (pathScratch[0] < minXAxisDelta || pathScratch[1] < minYAxisDelta
+					|| pathScratch[2] > maxXAxisDelta || pathScratch[3] > maxYAxisDelta) {
+				ViewMoverLog.w(LOG_TAG, "Path segment %s is out of the parent container bounds. The path is cut", i);
+				break;
+			}
+			length = path.getSegmentEndDistance(i);
+		}
+		return length;
+	}
+
+	/**
+	 * Limits the arc length of the path, which the view is moved along, so the view does
+	 * not pass through the other views of the collision group
+	 * <p>
+	 * Each segment is swept in {@link #PATH_COLLISION_STEPS} straight steps. With the
+	 * {@link BoundsPolicy#REJECT} policy the path is cut at the end of the last segment, which
+	 * passes by the other views, with the {@link BoundsPolicy#CLAMP} policy the path is cut where
+	 * the view touches the other view. Uses the geometry captured by {@link #captureGeometry()}
+	 *
+	 * @param path path the view is moved along
+	 * @param length arc length of the path, which fits the parent container, in actual pixels
+	 * @return collision-free arc length of the path in actual pixels
+	 */
+	private float calculateCollisionFreePathLength(MovePath path, float length) {
+		if (collisionGroup == null || length <= 0.0f) {
+			return length;
+		}
+		float minXAxisDelta = getMinXAxisDelta(geometry);
+		float maxXAxisDelta = getMaxXAxisDelta(geometry);
+		float minYAxisDelta = getMinYAxisDelta(geometry);
+		float maxYAxisDelta = getMaxYAxisDelta(geometry);
+		float previousX = 0.0f;
+		float previousY = 0.0f;
+		float previousDistance = 0.0f;
+		float segmentStart = 0.0f;
+		for (int i = 0; i < path.getSegmentCount() && segmentStart < length; i++) {
+			float segmentEnd = Math.min(path.getSegmentEndDistance(i), length);
+			for (int step = 1; step <= PATH_COLLISION_STEPS; step++) {
+				float distance = segmentStart + (segmentEnd - segmentStart) * step / PATH_COLLISION_STEPS;
+				path.getPoint(distance, pathScratch);
+				float x = Math.max(minXAxisDelta, Math.min(maxXAxisDelta, pathScratch[0]));
+				float y = Math.max(minYAxisDelta, Math.min(maxYAxisDelta, pathScratch[1]));
+				float fraction = collisionGroup.getAllowedFraction(collisionSlot,
+						calculateEndLeftBound(geometry, previousX), calculateEndTopBound(geometry, previousY),
+						calculateEndRightBound(geometry, previousX), calculateEndBottomBound(geometry, previousY),
+						x - previousX, y - previousY);
+				if (fraction < 1.0f) {
+					ViewMoverLog.w(LOG_TAG, "Path segment %s passes through the sibling view. The path is cut", i);
+					return boundsPolicy == BoundsPolicy.CLAMP
+							? (float) Math.floor(previousDistance + (distance - previousDistance) * fraction)
+							: segmentStart;
+				}
+				previousX = x;
+				previousY = y;
+				previousDistance = distance;
+			}
+			segmentStart = segmentEnd;
+		}
+		return length;
+	}
+
+	/**
+	 * Returns the path the view is being moved along
+	 *
+	 * @return path the view is being moved along, or {@code null} if the view is moved
+	 *         along the straight line
+	 */
+	MovePath getMovePath() {
+		return movePath;
+	}
+
+	/**
+	 * Returns the arc length of the path the view is being moved along
+	 *
+	 * @return arc length of the path in actual pixels
+	 */
+	float getMovePathLength() {
+		return movePathLength;
+	}
+
+	/**
+	 * Takes the snapshot of the view geometry, which is used to plan the moves off the UI thread
+	 * <p>
+	 * Must be called on the UI thread
+	 *
+	 * @return geometry snapshot, which is safe to be read from any thread
+	 */
+	public GeometrySnapshot snapshotGeometry() {
+		return new GeometrySnapshot(this, captureGeometry(), boundsPolicy);
+	}
+
+	/**
+	 * Plans the move by verifying the moving params against the geometry snapshot
+	 * <p>
+	 * Applies the same target resolution, snapping and verification as {@link #move(ReadableMovingParams)},
+	 * but reads the snapshot only, so is safe to be called from any thread, including several
+	 * threads at once
+	 *
+	 * @param snapshot geometry snapshot taken by this view mover
+	 * @param params params of the move action
+	 * @return move plan with the verified deltas
+	 */
+	public MovePlan plan(GeometrySnapshot snapshot, ReadableMovingParams params) {
+		checkSnapshotOwner(snapshot);
+		ViewGeometry snapshotGeometry = snapshot.getGeometry();
+		BoundsPolicy snapshotBoundsPolicy = snapshot.getBoundsPolicy();
+		float[] deltas = {params.getXAxisDelta(), params.getYAxisDelta()};
+		if (params.getTarget() != null) {
+			resolveTarget(snapshotGeometry, params.getTarget(), deltas);
+		}
+		if (params.getSnapPolicy() != null) {
+			snapDeltas(snapshotGeometry, params.getSnapPolicy(), deltas[0], deltas[1], deltas);
+		}
+		ImmutableMovingParams verified = new ImmutableMovingParams.Builder(null)
+				.setXAxisDeltaInPixels(verifyXAxisDelta(snapshotGeometry, snapshotBoundsPolicy, deltas[0]))
+				.setYAxisDeltaInPixels(verifyYAxisDelta(snapshotGeometry, snapshotBoundsPolicy, deltas[1]))
+				.setAnimationDuration(params.getAnimationDuration())
+				.setAnimationInterpolator(params.getAnimationInterpolator())
+				.setHardwareLayerEnabled(params.isHardwareLayerEnabled())
+				.setSnapPolicy(params.getSnapPolicy())
+				.setTarget(params.getTarget())
+				.build();
+		return new MovePlan(snapshot, verified);
+	}
+
+	/**
+	 * Commits the move plan
+	 * <p>
+	 * If the view, its parent container and the bounds policy have not changed since the
+	 * snapshot was taken, the move is started with the planned deltas right away. Otherwise the planned move is
+	 * handled the same way as {@link #move(ReadableMovingParams)}: it is verified again against the
+	 * current geometry, or handled according to the {@link #getPendingMovePolicy()} if the view
+	 * is being currently moved. Must be called on the UI thread
+	 *
+	 * @param plan move plan created by this view mover
+	 * @return true if the move was started with the planned deltas, otherwise false
+	 */
+	public boolean commit(MovePlan plan) {
+		checkSnapshotOwner(plan.getSnapshot());
+		GeometrySnapshot snapshot = plan.getSnapshot();
+		if (isMoving() || pendingMoveCount > 0 || collisionGroup != null
+				|| snapshot.getBoundsPolicy() != boundsPolicy
+				|| !captureGeometry().matches(snapshot.getGeometry())) {
+			ViewMoverLog.v(LOG_TAG, "View is being moved, is in the collision group, its bounds policy or its " +
+					"geometry changed since the snapshot. The plan is handled as a new move");
+			move(plan.getParams());
+			return false;
+		}
+		performVerifiedMove(plan.getParams(), ++lastMoveId);
+		updateLastDoneMoveId();
+		return true;
+	}
+
+	/**
+	 * Checks whether the geometry snapshot was taken by this view mover
+	 *
+	 * @param snapshot geometry snapshot
+	 */
+	private void checkSnapshotOwner(GeometrySnapshot snapshot) {
+		if (snapshot.getMover() != this) {
+			throw new IllegalArgumentException("Geometry snapshot was taken by another view mover");
+		}
+	}
+
+	/**
+	 * Verifies the moving params and starts the move
+	 *
+	 * @param params params of the move action
+	 * @param moveId id of the move
+	 */
+	private void performMove(ReadableMovingParams params, long moveId) {
+		performVerifiedMove(getVerifiedMovingParams(params), moveId);
+	}
+
+	/**
+	 * Starts the move with the verified moving params
+	 * <p>
+	 * The geometry must be captured by {@link #captureGeometry()} before the call
+	 *
+	 * @param verified verified moving params
+	 * @param moveId id of the move
+	 */
+	private void performVerifiedMove(ReadableMovingParams verified, long moveId) {
+		movePath = null;
+		if (!isMoveNonZero(verified)) {
+			if (moveStats != null) {
+				moveStats.recordMoveZeroed();
+			}
+			dispatchMoveCancelled(moveId);
+		} else {
+			ViewMoverLog.v(LOG_TAG, "View is about to be moved at: delta X-axis = %s, delta Y-axis = %s",
+					verified.getXAxisDelta(), verified.getYAxisDelta());
+			if (verified.isHardwareLayerEnabled()) {
+				promoteToHardwareLayer();
+			}
+			updateCollisionBounds(verified.getXAxisDelta(), verified.getYAxisDelta());
+			currentMoveId = moveId;
+			recordMoveStarted(verified);
+			if (ViewMoverTrace.ENABLED) {
+				ViewMoverTrace.beginSection(ViewMoverTrace.SECTION_START);
+			}
+			startMove(verified);
+			if (ViewMoverTrace.ENABLED) {
+				ViewMoverTrace.endSection();
+			}
+		}
+	}
+
+	/**
+	 * Returns the policy of handling the moves requested while the view is being moved
+	 *
+	 * @return pending move policy
+	 */
+	public PendingMovePolicy getPendingMovePolicy() {
+		return pendingMovePolicy;
+	}
+
+	/**
+	 * Sets the policy of handling the moves requested while the view is being moved
+	 * <p>
+	 * Changing the policy discards the moves kept by the previous policy
+	 *
+	 * @param pendingMovePolicy pending move policy
+	 */
+	public void setPendingMovePolicy(PendingMovePolicy pendingMovePolicy) {
+		this.pendingMovePolicy = pendingMovePolicy;
+		clearPendingMoves();
+	}
+
+	/**
+	 * Returns the policy of handling the moves, which would move the view out of its
+	 * parent container
+	 *
+	 * @return bounds policy
+	 */
+	public BoundsPolicy getBoundsPolicy() {
+		return boundsPolicy;
+	}
+
+	/**
+	 * Sets the policy of handling the moves, which would move the view out of its
+	 * parent container
+	 * <p>
+	 * Applies to the moves requested after the call. The drags are always clamped to the
+	 * parent container edges
+	 *
+	 * @param boundsPolicy bounds policy
+	 */
+	public void setBoundsPolicy(BoundsPolicy boundsPolicy) {
+		this.boundsPolicy = boundsPolicy;
+	}
+
+	/**
+	 * Returns the maximum number of the moves queued by the {@link PendingMovePolicy#QUEUE} policy
+	 *
+	 * @return capacity of the pending moves queue
+	 */
+	public int getPendingMoveCapacity() {
+		return pendingMoveCapacity;
+	}
+
+	/**
+	 * Sets the maximum number of the moves queued by the {@link PendingMovePolicy#QUEUE} policy
+	 * <p>
+	 * Changing the capacity discards the queued moves
+	 *
+	 * @param pendingMoveCapacity capacity of the pending moves queue. Must be positive
+	 */
+	public void setPendingMoveCapacity(int pendingMoveCapacity) {
+		if (pendingMoveCapacity <= 0) {
+			throw new IllegalArgumentException("Pending move capacity must be positive, but was " +
+					pendingMoveCapacity);
+		}
+		clearPendingMoves();
+		this.pendingMoveCapacity = pendingMoveCapacity;
+		pendingMoves = null;
+		pendingMoveIds = null;
+	}
+
+	/**
+	 * Discards the moves kept by the pending move policy and reports them as cancelled
+	 */
+	private void clearPendingMoves() {
+		int count = pendingMoveCount;
+		pendingMoveCount = 0;
+		for (int i = 0; i < count; i++) {
+			dispatchMoveCancelled(pendingMoveIds[(pendingMoveHead + i) % pendingMoveCapacity]);
+		}
+		pendingMoveHead = 0;
+		pendingMoveCount = 0;
+		view.removeCallbacks(pendingMoveRunnable);
+	}
+
+	/**
+	 * Handles the move requested while the view is being moved according to the
+	 * {@link #getPendingMovePolicy()}
+	 * <p>
+	 * The moving params are copied into the preallocated slots, so no objects are
+	 * allocated once the slots are filled for the first time
+	 *
+	 * @param params params of the move action
+	 * @param moveId id of the move
+	 * @return id the move is reported under
+	 */
+	private long deferMove(ReadableMovingParams params, long moveId) {
+		switch (pendingMovePolicy) {
+			case REPLACE_LATEST:
+				if (pendingMoveCount > 0) {
+					dispatchMoveCancelled(pendingMoveIds[pendingMoveHead]);
+				}
+				setPendingMove(pendingMoveHead, params, moveId);
+				pendingMoveCount = 1;
+				return moveId;
+			case ACCUMULATE:
+				if (pendingMoveCount == 0) {
+					setPendingMove(pendingMoveHead, params, moveId);
+					pendingMoveCount = 1;
+					return moveId;
+				}
+				return accumulatePendingMove(pendingMoveHead, params);
+			case QUEUE:
+				if (pendingMoveCount < pendingMoveCapacity) {
+					setPendingMove((pendingMoveHead + pendingMoveCount) % pendingMoveCapacity, params, moveId);
+					pendingMoveCount++;
+					return moveId;
+				}
+				ViewMoverLog.w(LOG_TAG, "Pending moves queue is full. Move is merged into the last queued move");
+				return accumulatePendingMove((pendingMoveHead + pendingMoveCount - 1) % pendingMoveCapacity, params);
+			default:
+				ViewMoverLog.w(LOG_TAG, "Unable to move the view. View is being currently moving");
+				if (moveStats != null) {
+					moveStats.recordMoveRejected();
+				}
+				dispatchMoveCancelled(moveId);
+				return moveId;
+		}
+	}
+
+	/**
+	 * Copies the moving params into the pending move slot
+	 *
+	 * @param index index of the slot
+	 * @param params params of the move action
+	 * @param moveId id of the move
+	 */
+	private void setPendingMove(int index, ReadableMovingParams params, long moveId) {
+		if (pendingMoves == null) {
+			pendingMoves = new MovingParams[pendingMoveCapacity];
+			pendingMoveIds = new long[pendingMoveCapacity];
+		}
+		pendingMoveIds[index] = moveId;
+		if (pendingMoves[index] == null) {
+			pendingMoves[index] = new MovingParams(params);
+		} else {
+			pendingMoves[index].set(params);
+		}
+	}
+
+	/**
+	 * Adds the deltas of the moving params to the move kept in the pending move slot,
+	 * taking the other moving params from the new move
+	 * <p>
+	 * The absolute moves are not accumulated, the new move replaces the kept one
+	 *
+	 * @param index index of the slot
+	 * @param params params of the move action
+	 * @return id of the move kept in the slot
+	 */
+	private long accumulatePendingMove(int index, ReadableMovingParams params) {
+		MovingParams pendingMove = pendingMoves[index];
+		if (params.getTarget() != null || pendingMove.getTarget() != null) {
+			pendingMove.set(params);
+			return pendingMoveIds[index];
+		}
+		float xAxisDelta = pendingMove.getXAxisDelta();
+		float yAxisDelta = pendingMove.getYAxisDelta();
+		pendingMove.set(params);
+		pendingMove.addDeltas(xAxisDelta, yAxisDelta);
+		return pendingMoveIds[index];
+	}
+
+	/**
+	 * Performs the next pending move, if any
+	 * <p>
+	 * Is posted to the next frame after the current move completes, so the new move
+	 * is not started from within the completion callback of the previous one
+	 */
+	private void performPendingMove() {
+		if (pendingMoveCount == 0 || isMoving()) {
+			return;
+		}
+		MovingParams params = pendingMoves[pendingMoveHead];
+		long moveId = pendingMoveIds[pendingMoveHead];
+		pendingMoveHead = (pendingMoveHead + 1) % pendingMoveCapacity;
+		pendingMoveCount--;
+		performMove(params, moveId);
+		updateLastDoneMoveId();
+		if (pendingMoveCount > 0 && !isMoving()) {
+			postOnNextFrame(pendingMoveRunnable);
+		}
+	}
+
+	/**
+	 * Is called to start moving the view once the moving params are verified
+	 * <p>
+	 * By default starts the move animation on the view. Subclasses, which move the
+	 * view in a different way, must also override {@link #isMoving()}
+	 *
+	 * @param params verified moving params
+	 */
+	void startMove(ReadableMovingParams params) {
+		view.startAnimation(createAnimation(params));
+	}
+
+	/**
+	 * Is called when the move completes
+	 * <p>
+	 * Restores the layer type of the view if it was promoted to the hardware layer
+	 * for the move and reports the move to the {@link OnMoveListener}. Subclasses, which
+	 * override {@link #startMove(ReadableMovingParams)}, must call it when the move completes
+	 */
+	void onMoveEnded() {
+		if (previousLayerType != LAYER_TYPE_UNCHANGED) {
+			restoreLayerType();
+		}
+		long moveId = currentMoveId;
+		currentMoveId = NO_MOVE;
+		if (moveStats != null) {
+			moveStats.recordMoveCompleted(moveDuration, SystemClock.uptimeMillis() - moveStartTime);
+		}
+		updateLastDoneMoveId();
+		if (pendingMoveCount > 0) {
+			postOnNextFrame(pendingMoveRunnable);
+		}
+		dispatchMoveEnded(moveId);
+	}
+
+	/**
+	 * Promotes the view to the hardware layer for the duration of the move
+	 * <p>
+	 * Is skipped prior to {@link android.os.Build.VERSION_CODES#HONEYCOMB}, if the view uses the
+	 * hardware layer already, or if the view is larger than the screen, since rendering such
+	 * a view into a layer costs more than redrawing it
+	 */
+	@TargetApi(Build.VERSION_CODES.HONEYCOMB)
+	void promoteToHardwareLayer() {
+		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB) {
+			return;
+		}
+		int layerType = view.getLayerType();
+		if (layerType == View.LAYER_TYPE_HARDWARE) {
+			return;
+		}
+		DisplayMetrics metrics = view.getResources().getDisplayMetrics();
+		long viewArea = (long) geometry.getWidth() * geometry.getHeight();
+		long screenArea = (long) metrics.widthPixels * metrics.heightPixels;
+		if (viewArea == 0L || viewArea > screenArea) {
+			ViewMoverLog.v(LOG_TAG, "View is not promoted to the hardware layer: width = %s, height = %s",
+					geometry.getWidth(), geometry.getHeight());
+			return;
+		}
+		previousLayerType = layerType;
+		view.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+	}
+
+	/**
+	 * Restores the layer type the view had before it was promoted to the hardware layer
+	 */
+	@TargetApi(Build.VERSION_CODES.HONEYCOMB)
+	private void restoreLayerType() {
+		view.setLayerType(previousLayerType, null);
+		previousLayerType = LAYER_TYPE_UNCHANGED;
+	}
+
+	/**
+	 * Drags the view at the specified distance without animation
+	 * <p>
+	 * Intended to follow the touch input. The deltas passed between two frames are summed up
+	 * and applied to the view once on the next frame. The view stops at the parent container
+	 * edges regardless of the {@link #getBoundsPolicy()}, so the drag, which overshoots the edge,
+	 * still moves the view up to the edge. The fraction of a pixel, which the view can not be moved
+	 * at, is carried over to the next frame, so the slow drags are not lost. While the view is being moved
+	 * by {@link #move(ReadableMovingParams)} the deltas keep accumulating and are applied after the move
+	 * completes
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels.
+	 *                   Positive value means that view is moving right.
+	 *                   Negative value means that view is moving left
+	 * @param yAxisDelta Y-axis delta in actual pixels.
+	 *                   Positive value means that view is moving down.
+	 *                   Negative value means that view is moving up
+	 */
+	public void drag(float xAxisDelta, float yAxisDelta) {
+		dragXAxisDelta += xAxisDelta;
+		dragYAxisDelta += yAxisDelta;
+		scheduleDrag();
+	}
+
+	/**
+	 * Schedules applying the accumulated drag deltas on the next frame, unless
+	 * it is scheduled already
+	 */
+	private void scheduleDrag() {
+		if (!dragScheduled) {
+			dragScheduled = true;
+			postOnNextFrame(dragRunnable);
+		}
+	}
+
+	/**
+	 * Applies the drag deltas accumulated since the previous frame
+	 * <p>
+	 * The axis deltas, which would move the view out of its parent container, are clamped
+	 * to the parent container edges. The part of the deltas, which is not applied because
+	 * of the precision the view position is changed with, is kept for the next frame
+	 */
+	private void applyDrag() {
+		dragScheduled = false;
+		if (isMoving()) {
+			scheduleDrag();
+			return;
+		}
+		float xAxisDelta = dragXAxisDelta;
+		float yAxisDelta = dragYAxisDelta;
+		dragXAxisDelta = 0.0f;
+		dragYAxisDelta = 0.0f;
+		captureGeometry();
+		xAxisDelta = verifyXAxisDelta(geometry, BoundsPolicy.CLAMP, xAxisDelta);
+		yAxisDelta = verifyYAxisDelta(geometry, BoundsPolicy.CLAMP, yAxisDelta);
+		float fraction = getCollisionFreeFraction(xAxisDelta, yAxisDelta, null);
+		xAxisDelta = limitToCollisionFreeFraction(xAxisDelta, fraction);
+		yAxisDelta = limitToCollisionFreeFraction(yAxisDelta, fraction);
+		float appliedXAxisDelta = getAppliedAxisDelta(xAxisDelta);
+		float appliedYAxisDelta = getAppliedAxisDelta(yAxisDelta);
+		dragXAxisDelta += xAxisDelta - appliedXAxisDelta;
+		dragYAxisDelta += yAxisDelta - appliedYAxisDelta;
+		xAxisDelta = appliedXAxisDelta;
+		yAxisDelta = appliedYAxisDelta;
+		if (xAxisDelta != 0.0f || yAxisDelta != 0.0f) {
+			ViewMoverLog.v(LOG_TAG, "View is dragged at: delta X-axis = %s, delta Y-axis = %s",
+					xAxisDelta, yAxisDelta);
+			if (ViewMoverTrace.ENABLED) {
+				ViewMoverTrace.beginSection(ViewMoverTrace.SECTION_COMMIT);
+			}
+			changeViewPosition(xAxisDelta, yAxisDelta);
+			if (ViewMoverTrace.ENABLED) {
+				ViewMoverTrace.endSection();
+			}
+			updateCollisionBounds(xAxisDelta, yAxisDelta);
+		}
+	}
+
+	/**
+	 * Posts the runnable to be run on the next animation frame
+	 * <p>
+	 * Falls back to posting into the view's message queue prior to
+	 * {@link android.os.Build.VERSION_CODES#JELLY_BEAN}
+	 *
+	 * @param runnable runnable to be run
+	 */
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+	void postOnNextFrame(Runnable runnable) {
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+			view.postOnAnimation(runnable);
+		} else {
+			view.post(runnable);
+		}
+	}
+
+	/**
+	 * Checks whether the view is being currently moved
+	 *
+	 * @return true if the view is being currently moved, otherwise false
+	 */
+	boolean isMoving() {
+		Animation previousAnimation = view.getAnimation();
+		return previousAnimation != null && !previousAnimation.hasEnded();
+	}
+
+	/**
+	 * Checks whether both X-axis and Y-axis delta of the moving details are not {@code zero}
+	 *
+	 * @param details moving details, which needs to be checked
+	 * @return true, if any of the X-axis or Y-axis delta of the moving details are {@code zero},
+	 *         otherwise false
+	 */
+	boolean isMoveNonZero(ReadableMovingParams details) {
+		boolean moveNonZero = details.getXAxisDelta() != 0.0f
+				|| details.getYAxisDelta() != 0.0f;
+		if (!moveNonZero) {
+			ViewMoverLog.w(LOG_TAG, "Zero movement detected. No movement will be performed");
+		}
+		return moveNonZero;
+	}
+
+	/**
+	 * Returns the {@link MovingParams} with X-axis and Y-axis deltas updated based on
+	 * calculations returned from {@link #updateXAxisDelta(float)} and
+	 * {@link #updateYAxisDelta(float)}
+	 * <p>
+	 * The immutable moving params, which deltas need no update, are returned as they are.
+	 * Otherwise an updated copy is returned. The copy is allocated on the first move only
+	 * and reused afterwards
+	 *
+	 * @param params moving params, which needs to be updated
+	 * @return verified moving params
+	 */
+	ReadableMovingParams getVerifiedMovingParams(final ReadableMovingParams params) {
+		if (ViewMoverTrace.ENABLED) {
+			ViewMoverTrace.beginSection(ViewMoverTrace.SECTION_VALIDATE);
+		}
+		captureGeometry();
+		float snappedXAxisDelta = params.getXAxisDelta();
+		float snappedYAxisDelta = params.getYAxisDelta();
+		if (params.getTarget() != null) {
+			resolveTarget(geometry, params.getTarget(), snapScratch);
+			snappedXAxisDelta = snapScratch[0];
+			snappedYAxisDelta = snapScratch[1];
+		}
+		if (params.getSnapPolicy() != null) {
+			snapDeltas(geometry, params.getSnapPolicy(), snappedXAxisDelta, snappedYAxisDelta, snapScratch);
+			snappedXAxisDelta = snapScratch[0];
+			snappedYAxisDelta = snapScratch[1];
+		}
+		float xAxisDelta = updateXAxisDelta(snappedXAxisDelta);
+		float yAxisDelta = updateYAxisDelta(snappedYAxisDelta);
+		float fraction = getCollisionFreeFraction(xAxisDelta, yAxisDelta, getInterpolator(params));
+		xAxisDelta = limitToCollisionFreeFraction(xAxisDelta, fraction);
+		yAxisDelta = limitToCollisionFreeFraction(yAxisDelta, fraction);
+		ViewMoverLog.v(LOG_TAG, "Updated moving details values: X-axis from %s to %s, Y-axis from %s to %s",
+				params.getXAxisDelta(), xAxisDelta, params.getYAxisDelta(), yAxisDelta);
+		boolean deltasChanged = xAxisDelta != params.getXAxisDelta() || yAxisDelta != params.getYAxisDelta();
+		if (moveStats != null && (xAxisDelta != snappedXAxisDelta || yAxisDelta != snappedYAxisDelta)
+				&& (xAxisDelta != 0.0f || yAxisDelta != 0.0f)) {
+			moveStats.recordMoveClamped();
+		}
+		if (params.isImmutable() && !deltasChanged) {
+			if (ViewMoverTrace.ENABLED) {
+				ViewMoverTrace.endSection();
+			}
+			return params;
+		}
+		if (verifiedParams == null) {
+			verifiedParams = new MovingParams(params);
+		} else {
+			verifiedParams.set(params);
+		}
+		verifiedParams.setXAxisDeltaInPixels(xAxisDelta);
+		verifiedParams.setYAxisDeltaInPixels(yAxisDelta);
+		if (ViewMoverTrace.ENABLED) {
+			ViewMoverTrace.endSection();
+		}
+		return verifiedParams;
+	}
+
+	/**
+	 * Calculates the deltas, which move the view to the absolute destination
+	 * <p>
+	 * Reads the geometry only, so is safe to be called from any thread
+	 *
+	 * @param geometry geometry of the view
+	 * @param target absolute destination of the move
+	 * @param deltas array the X- and Y-axis deltas are written into
+	 */
+	void resolveTarget(ViewGeometry geometry, MoveTarget target, float[] deltas) {
+		float left = getCurrentLeft(geometry);
+		float top = getCurrentTop(geometry);
+		deltas[0] = target.resolveLeft(left, geometry.getWidth(), geometry.getParentWidth()) - left;
+		deltas[1] = target.resolveTop(top, geometry.getHeight(), geometry.getParentHeight()) - top;
+		ViewMoverLog.v(LOG_TAG, "Target resolved to deltas: X-axis = %s, Y-axis = %s", deltas[0], deltas[1]);
+	}
+
+	/**
+	 * Adjusts the deltas, so the view is moved to the destination snapped by the snapping policy
+	 * <p>
+	 * The nearest anchor within the magnetic radius of the destination is looked up first,
+	 * if there is none, each of the coordinates is snapped to the grid. Reads the geometry only,
+	 * so is safe to be called from any thread
+	 *
+	 * @param geometry geometry of the view
+	 * @param snapPolicy snapping policy
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @param snappedDeltas array the snapped X- and Y-axis deltas are written into
+	 */
+	void snapDeltas(ViewGeometry geometry, SnapPolicy snapPolicy, float xAxisDelta, float yAxisDelta,
+	                float[] snappedDeltas) {
+		float endX = getCurrentLeft(geometry) + xAxisDelta;
+		float endY = getCurrentTop(geometry) + yAxisDelta;
+		int anchor = snapPolicy.findAnchor(endX, endY);
+		if (anchor != SnapPolicy.NO_ANCHOR) {
+			snappedDeltas[0] = xAxisDelta + snapPolicy.getAnchorX(anchor) - endX;
+			snappedDeltas[1] = yAxisDelta + snapPolicy.getAnchorY(anchor) - endY;
+		} else {
+			snappedDeltas[0] = xAxisDelta + snapPolicy.snapToGrid(endX) - endX;
+			snappedDeltas[1] = yAxisDelta + snapPolicy.snapToGrid(endY) - endY;
+		}
+		ViewMoverLog.v(LOG_TAG, "Destination snapped: X-axis delta from %s to %s, Y-axis delta from %s to %s",
+				xAxisDelta, snappedDeltas[0], yAxisDelta, snappedDeltas[1]);
+	}
+
+	/**
+	 * Updates the X-axis delta based on checking whether there is enough space
+	 * left to move the view horizontally
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @return updated X-axis delta in actual pixels
+	 */
+	private float updateXAxisDelta(float xAxisDelta) {
+		float verifiedXAxisDelta = verifyXAxisDelta(geometry, boundsPolicy, xAxisDelta);
+		if (verifiedXAxisDelta == 0.0f && xAxisDelta != 0.0f) {
+			ViewMoverLog.w(LOG_TAG, "Unable to move the view horizontally. No horizontal space left to move");
+		}
+		return verifiedXAxisDelta;
+	}
+
+	/**
+	 * Updates the Y-axis delta based on checking whether there is enough space
+	 * left to move the view vertically
+	 *
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @return updated Y-axis delta in actual pixels
+	 */
+	private float updateYAxisDelta(float yAxisDelta) {
+		float verifiedYAxisDelta = verifyYAxisDelta(geometry, boundsPolicy, yAxisDelta);
+		if (verifiedYAxisDelta == 0.0f && yAxisDelta != 0.0f) {
+			ViewMoverLog.w(LOG_TAG, "Unable to move the view vertically. No vertical space left to move");
+		}
+		return verifiedYAxisDelta;
+	}
+
+	/**
+	 * Verifies the X-axis delta against the parent container bounds according to the
+	 * bounds policy
+	 * <p>
+	 * Reads the geometry only, so is safe to be called from any thread
+	 *
+	 * @param geometry geometry of the view
+	 * @param boundsPolicy bounds policy
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @return X-axis delta, which keeps the view within its parent container
+	 */
+	float verifyXAxisDelta(ViewGeometry geometry, BoundsPolicy boundsPolicy, float xAxisDelta) {
+		if (xAxisDelta == 0.0f || hasHorizontalSpaceToMove(geometry, xAxisDelta)) {
+			return xAxisDelta;
+		}
+		if (boundsPolicy == BoundsPolicy.CLAMP) {
+			float clamped = Math.max(getMinXAxisDelta(geometry), Math.min(getMaxXAxisDelta(geometry), xAxisDelta));
+			ViewMoverLog.v(LOG_TAG, "X-axis delta clamped from %s to %s", xAxisDelta, clamped);
+			return clamped;
+		}
+		return 0.0f;
+	}
+
+	/**
+	 * Verifies the Y-axis delta against the parent container bounds according to the
+	 * bounds policy
+	 * <p>
+	 * Reads the geometry only, so is safe to be called from any thread
+	 *
+	 * @param geometry geometry of the view
+	 * @param boundsPolicy bounds policy
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @return Y-axis delta, which keeps the view within its parent container
+	 */
+	float verifyYAxisDelta(ViewGeometry geometry, BoundsPolicy boundsPolicy, float yAxisDelta) {
+		if (yAxisDelta == 0.0f || hasVerticalSpaceToMove(geometry, yAxisDelta)) {
+			return yAxisDelta;
+		}
+		if (boundsPolicy == BoundsPolicy.CLAMP) {
+			float clamped = Math.max(getMinYAxisDelta(geometry), Math.min(getMaxYAxisDelta(geometry), yAxisDelta));
+			ViewMoverLog.v(LOG_TAG, "Y-axis delta clamped from %s to %s", yAxisDelta, clamped);
+			return clamped;
+		}
+		return 0.0f;
+	}
+
+	/**
+	 * Checks whether there is enough space left to move the view horizontally within
+	 * its parent container
+	 * <p>
+	 * Calls {@link #calculateEndLeftBound(ViewGeometry, float)} and
+	 * {@link #calculateEndRightBound(ViewGeometry, float)} to calculate the resulting X coordinate
+	 * of the view's left and right bounds
+	 *
+	 * @param geometry geometry of the view
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @return true if there is enough space to move the view horizontally, otherwise false
+	 */
+	private boolean hasHorizontalSpaceToMove(ViewGeometry geometry, float xAxisDelta) {
+		int endLeftBound = calculateEndLeftBound(geometry, xAxisDelta);
+		int endRightBound = calculateEndRightBound(geometry, xAxisDelta);
+		ViewMoverLog.v(LOG_TAG, "Calculated end bounds: left = %s, right = %s", endLeftBound, endRightBound);
+		return endLeftBound >= 0 && endRightBound <= geometry.getParentWidth();
+	}
+
+	/**
+	 * Checks whether there is enough space left to move the view vertically within
+	 * its parent container
+	 * <p>
+	 * Calls {@link #calculateEndTopBound(ViewGeometry, float)} and
+	 * {@link #calculateEndBottomBound(ViewGeometry, float)} to calculate the resulting Y coordinate
+	 * of the view's top and bottom bounds
+	 *
+	 * @param geometry geometry of the view
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @return true if there is enough space to move the view vertically, otherwise false
+	 */
+	private boolean hasVerticalSpaceToMove(ViewGeometry geometry, float yAxisDelta) {
+		int endTopBound = calculateEndTopBound(geometry, yAxisDelta);
+		int endBottomBound = calculateEndBottomBound(geometry, yAxisDelta);
+		ViewMoverLog.v(LOG_TAG, "Calculated end bounds: top = %s, bottom = %s", endTopBound, endBottomBound);
+		return endTopBound >= 0 && endBottomBound <= geometry.getParentHeight();
+	}
+
+	/**
+	 * Returns the minimum X-axis delta, which keeps the view within its parent container
+	 * <p>
+	 * Is never greater than {@code 0}, so the view, which is already out of the parent
+	 * container bounds, is not moved back
+	 *
+	 * @param geometry geometry of the view
+	 * @return minimum X-axis delta in actual pixels
+	 */
+	float getMinXAxisDelta(ViewGeometry geometry) {
+		return Math.min(0.0f, -getCurrentLeft(geometry));
+	}
+
+	/**
+	 * Returns the maximum X-axis delta, which keeps the view within its parent container
+	 * <p>
+	 * Is never less than {@code 0}
+	 *
+	 * @param geometry geometry of the view
+	 * @return maximum X-axis delta in actual pixels
+	 */
+	float getMaxXAxisDelta(ViewGeometry geometry) {
+		return Math.max(0.0f, geometry.getParentWidth() - getCurrentLeft(geometry) - geometry.getWidth());
+	}
+
+	/**
+	 * Returns the minimum Y-axis delta, which keeps the view within its parent container
+	 * <p>
+	 * Is never greater than {@code 0}
+	 *
+	 * @param geometry geometry of the view
+	 * @return minimum Y-axis delta in actual pixels
+	 */
+	float getMinYAxisDelta(ViewGeometry geometry) {
+		return Math.min(0.0f, -getCurrentTop(geometry));
+	}
+
+	/**
+	 * Returns the maximum Y-axis delta, which keeps the view within its parent container
+	 * <p>
+	 * Is never less than {@code 0}
+	 *
+	 * @param geometry geometry of the view
+	 * @return maximum Y-axis delta in actual pixels
+	 */
+	float getMaxYAxisDelta(ViewGeometry geometry) {
+		return Math.max(0.0f, geometry.getParentHeight() - getCurrentTop(geometry) - geometry.getHeight());
+	}
+
+	/**
+	 * Creates the moving animation
+	 * <p>
+	 * Configures the moving animation based on moving params. The animation is created
+	 * on the first move only and is reset and reconfigured for the subsequent moves
+	 *
+	 * @param params params, which is used to configure the moving animation
+	 * @return moving animation
+	 */
+	private Animation createAnimation(ReadableMovingParams params) {
+		if (moveAnimation == null) {
+			moveAnimation = new MoveAnimation();
+			moveAnimation.setAnimationListener(moveAnimationListener);
+		} else {
+			moveAnimation.reset();
+		}
+		moveAnimation.setDeltas(params.getXAxisDelta(), params.getYAxisDelta());
+		moveAnimation.setPath(movePath, movePathLength);
+		moveAnimation.setDeltaBounds(getMinXAxisDelta(geometry), getMaxXAxisDelta(geometry),
+				getMinYAxisDelta(geometry), getMaxYAxisDelta(geometry));
+		moveAnimation.setMoveStats(moveStats);
+		moveAnimation.setDuration(params.getAnimationDuration());
+		moveAnimation.setInterpolator(getInterpolator(params));
+		return moveAnimation;
+	}
+
+	/**
+	 * Returns the interpolator of the moving params or the default interpolator
+	 * if the moving params have no interpolator set
+	 *
+	 * @param params moving params
+	 * @return interpolator to be used for the move
+	 */
+	Interpolator getInterpolator(ReadableMovingParams params) {
+		Interpolator interpolator = params.getAnimationInterpolator();
+		if (interpolator == null) {
+			if (defaultInterpolator == null) {
+				defaultInterpolator = new AccelerateDecelerateInterpolator();
+			}
+			interpolator = defaultInterpolator;
+		}
+		return interpolator;
+	}
+
+	/**
+	 * Move animation listener class
+	 * <p>
+	 * Used to listen the animation and call the {@link #changeViewPosition(float, float)}
+	 * when animation completes. A single instance is shared by all the moves and reads
+	 * the deltas of the current move from {@link #moveAnimation}
+	 */
+	private class MoveAnimationListener implements Animation.AnimationListener {
+
+		@Override
+		public void onAnimationStart(Animation animation) {
 		}
 
 		@Override
@@ -317,7 +1960,17 @@ public abstract class ViewMover {
 		 */
 		@Override
 		public void onAnimationEnd(Animation animation) {
-			changeViewPosition(details.getXAxisDelta(), details.getYAxisDelta());
+			if (animationCancelled) {
+				return;
+			}
+			if (ViewMoverTrace.ENABLED) {
+				ViewMoverTrace.beginSection(ViewMoverTrace.SECTION_COMMIT);
+			}
+			changeViewPosition(moveAnimation.getXAxisDelta(), moveAnimation.getYAxisDelta());
+			if (ViewMoverTrace.ENABLED) {
+				ViewMoverTrace.endSection();
+			}
+			onMoveEnded();
 		}
 
 	}
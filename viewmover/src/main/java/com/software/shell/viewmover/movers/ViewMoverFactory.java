@@ -21,12 +21,14 @@ package com.software.shell.viewmover.movers;
 import android.os.Build;
 import android.view.View;
 
+import java.util.Collection;
+
 /**
  * A factory class, which creates view mover instances
  * depending on the {@code BUILD VERSION}
  *
  * @author shell
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public abstract class ViewMoverFactory {
@@ -39,11 +41,55 @@ public abstract class ViewMoverFactory {
 	 * @return specific view mover
 	 */
 	public static ViewMover createInstance(View view) {
+		return createInstance(view, MoveEngine.ANIMATION);
+	}
+
+	/**
+	 * Creates the subclasses of the {@link com.software.shell.viewmover.movers.ViewMover} class,
+	 * which use the specified engine to move the view
+	 * <p>
+	 * Falls back to the {@link MoveEngine#ANIMATION} engine if the specified engine
+	 * is not supported by the {@code BUILD VERSION}: {@link MoveEngine#RENDER_THREAD} prior to
+	 * {@link android.os.Build.VERSION_CODES#LOLLIPOP}, {@link MoveEngine#FRAME_CALLBACK} and
+	 * {@link MoveEngine#VALUE_ANIMATOR} prior to {@link android.os.Build.VERSION_CODES#JELLY_BEAN}.
+	 * {@link MoveEngine#LAYOUT_OFFSET} affects the margin based moving only, so on
+	 * {@link android.os.Build.VERSION_CODES#JELLY_BEAN} and higher it falls back to the
+	 * {@link MoveEngine#ANIMATION} engine as well, which changes the view position there
+	 *
+	 * @param view view to be moved
+	 * @param engine engine to be used to move the view
+	 * @return specific view mover
+	 */
+	public static ViewMover createInstance(View view, MoveEngine engine) {
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP && engine == MoveEngine.RENDER_THREAD) {
+			return new RenderThreadViewMover(view);
+		}
 		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+			if (engine == MoveEngine.FRAME_CALLBACK) {
+				return new FrameViewMover(view);
+			}
+			if (engine == MoveEngine.VALUE_ANIMATOR) {
+				return new ValueAnimatorViewMover(view);
+			}
 			return new PositionViewMover(view);
 		} else {
+			if (engine == MoveEngine.LAYOUT_OFFSET) {
+				return new OffsetMarginViewMover(view);
+			}
 			return new MarginViewMover(view);
 		}
 	}
 
+	/**
+	 * Creates the {@link com.software.shell.viewmover.movers.GroupViewMover}, which moves
+	 * the views as one group
+	 *
+	 * @param views views to be moved. Must have the same parent container
+	 * @return group view mover
+	 * @throws IllegalArgumentException if the views have different parent containers
+	 */
+	public static GroupViewMover createGroupInstance(Collection<? extends View> views) {
+		return new GroupViewMover(views);
+	}
+
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-19 00:16:29
+ */
+
+package com.software.shell.viewmover.configuration;
+
+import com.software.shell.viewmover.BuildConfig;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests of the {@link MovePath}
+ * <p>
+ * Are run by Robolectric, since the path logs its lookup table through
+ * {@link android.util.Log}
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class MovePathTest {
+
+	/**
+	 * Allowed error of the exact points and distances
+	 */
+	private static final float DELTA = 1e-3f;
+
+	/**
+	 * Allowed error of the points, which are approximated by the sampled curves
+	 */
+	private static final float CURVE_DELTA = 0.5f;
+
+	/**
+	 * Checks the points at the start, at the end and beyond both ends of the path
+	 */
+	@Test
+	public void testPointAtEnds() {
+		MovePath path = MovePath.createInPixels().lineTo(30.0f, 40.0f).lineTo(30.0f, 100.0f);
+		float[] point = new float[2];
+		path.getPoint(0.0f, point);
+		assertArrayEquals(new float[] {0.0f, 0.0f}, point, DELTA);
+		path.getPoint(path.getLength(), point);
+		assertArrayEquals(new float[] {30.0f, 100.0f}, point, DELTA);
+		path.getPoint(-10.0f, point);
+		assertArrayEquals(new float[] {0.0f, 0.0f}, point, DELTA);
+		path.getPoint(path.getLength() + 10.0f, point);
+		assertArrayEquals(new float[] {30.0f, 100.0f}, point, DELTA);
+	}
+
+	/**
+	 * Checks the lengths and the points within and across the boundary of the straight segments
+	 */
+	@Test
+	public void testPointAcrossLineSegments() {
+		MovePath path = MovePath.createInPixels().lineTo(30.0f, 40.0f).lineTo(30.0f, 100.0f);
+		assertEquals(2, path.getSegmentCount());
+		assertEquals(110.0f, path.getLength(), DELTA);
+		assertEquals(50.0f, path.getSegmentEndDistance(0), DELTA);
+		assertEquals(110.0f, path.getSegmentEndDistance(1), DELTA);
+		float[] point = new float[2];
+		path.getPoint(25.0f, point);
+		assertArrayEquals(new float[] {15.0f, 20.0f}, point, DELTA);
+		path.getPoint(50.0f, point);
+		assertArrayEquals(new float[] {30.0f, 40.0f}, point, DELTA);
+		path.getPoint(49.0f, point);
+		assertArrayEquals(new float[] {29.4f, 39.2f}, point, DELTA);
+		path.getPoint(51.0f, point);
+		assertArrayEquals(new float[] {30.0f, 41.0f}, point, DELTA);
+		path.getPoint(80.0f, point);
+		assertArrayEquals(new float[] {30.0f, 70.0f}, point, DELTA);
+	}
+
+	/**
+	 * Checks the points across the boundary of a curve and a straight segment
+	 */
+	@Test
+	public void testPointAcrossCurveSegments() {
+		MovePath path = MovePath.createInPixels()
+				.quadTo(50.0f, 0.0f, 50.0f, 50.0f)
+				.lineTo(50.0f, 150.0f)
+				.cubicTo(50.0f, 200.0f, 100.0f, 200.0f, 100.0f, 150.0f);
+		assertEquals(3, path.getSegmentCount());
+		float curveEnd = path.getSegmentEndDistance(0);
+		// Arc length of the quarter-like curve lies between its chord and its control polygon
+		assertTrue(curveEnd > (float) Math.sqrt(2.0) * 50.0f && curveEnd < 100.0f);
+		assertEquals(curveEnd + 100.0f, path.getSegmentEndDistance(1), DELTA);
+		float[] point = new float[2];
+		path.getPoint(curveEnd, point);
+		assertArrayEquals(new float[] {50.0f, 50.0f}, point, DELTA);
+		path.getPoint(curveEnd - 1.0f, point);
+		assertEquals(50.0f, point[0], CURVE_DELTA);
+		assertEquals(49.0f, point[1], CURVE_DELTA);
+		path.getPoint(curveEnd + 10.0f, point);
+		assertArrayEquals(new float[] {50.0f, 60.0f}, point, DELTA);
+		path.getPoint(path.getSegmentEndDistance(1), point);
+		assertArrayEquals(new float[] {50.0f, 150.0f}, point, DELTA);
+		path.getPoint(path.getLength(), point);
+		assertArrayEquals(new float[] {100.0f, 150.0f}, point, DELTA);
+	}
+
+	/**
+	 * Checks that the points advance monotonically along the curve
+	 */
+	@Test
+	public void testPointsAdvanceAlongCurve() {
+		MovePath path = MovePath.createInPixels().quadTo(100.0f, 0.0f, 100.0f, 100.0f);
+		float[] point = new float[2];
+		float previousX = -1.0f;
+		float previousY = -1.0f;
+		for (float distance = 0.0f; distance <= path.getLength(); distance += 1.0f) {
+			path.getPoint(distance, point);
+			assertTrue(point[0] >= previousX && point[1] >= previousY);
+			previousX = point[0];
+			previousY = point[1];
+		}
+	}
+
+	/**
+	 * Checks the bounds of the segments
+	 */
+	@Test
+	public void testSegmentBounds() {
+		MovePath path = MovePath.createInPixels()
+				.lineTo(-20.0f, 10.0f)
+				.quadTo(0.0f, 60.0f, 20.0f, 10.0f);
+		float[] bounds = new float[4];
+		path.getSegmentBounds(0, bounds);
+		assertArrayEquals(new float[] {-20.0f, 0.0f, 0.0f, 10.0f}, bounds, DELTA);
+		path.getSegmentBounds(1, bounds);
+		assertArrayEquals(new float[] {-20.0f, 10.0f, 20.0f, 35.0f}, bounds, DELTA);
+	}
+
+	/**
+	 * Checks that the empty and the reset paths stay at the start
+	 */
+	@Test
+	public void testEmptyPath() {
+		MovePath path = MovePath.createInPixels();
+		float[] point = {1.0f, 1.0f};
+		assertEquals(0.0f, path.getLength(), DELTA);
+		path.getPoint(10.0f, point);
+		assertArrayEquals(new float[] {0.0f, 0.0f}, point, DELTA);
+
+		path.lineTo(10.0f, 0.0f);
+		assertEquals(10.0f, path.getLength(), DELTA);
+		path.reset();
+		assertEquals(0, path.getSegmentCount());
+		assertEquals(0.0f, path.getLength(), DELTA);
+		path.lineTo(0.0f, 20.0f);
+		path.getPoint(20.0f, point);
+		assertArrayEquals(new float[] {0.0f, 20.0f}, point, DELTA);
+	}
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-19 00:07:41
+ */
+
+package com.software.shell.viewmover.configuration;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests of the {@link SnapPolicy}
+ * <p>
+ * The policies are built with the values in actual pixels, so no context is needed
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class SnapPolicyTest {
+
+	/**
+	 * Magnetic radius in px
+	 */
+	private static final float RADIUS = 10.0f;
+
+	/**
+	 * Allowed error of the snapped coordinates
+	 */
+	private static final float DELTA = 1e-4f;
+
+	/**
+	 * Checks that the anchor exactly on the magnetic radius attracts the point, and the
+	 * anchor just outside of it does not
+	 */
+	@Test
+	public void testAnchorOnMagneticRadiusIsFound() {
+		SnapPolicy policy = new SnapPolicy.Builder(null)
+				.setMagneticRadiusInPixels(RADIUS)
+				.addAnchorInPixels(RADIUS, 0.0f)
+				.build();
+		assertEquals(0, policy.findAnchor(0.0f, 0.0f));
+		assertEquals(0, policy.findAnchor(RADIUS, RADIUS));
+		assertEquals(SnapPolicy.NO_ANCHOR, policy.findAnchor(-0.01f, 0.0f));
+		assertEquals(SnapPolicy.NO_ANCHOR, policy.findAnchor(RADIUS, RADIUS + 0.01f));
+	}
+
+	/**
+	 * Checks that the anchor is found in the neighbouring cell of the point
+	 * <p>
+	 * The cells are as large as the magnetic radius, so the point at X below {@code RADIUS}
+	 * and the anchor at X above it always lie in different cells
+	 */
+	@Test
+	public void testAnchorInNeighbouringCellIsFound() {
+		SnapPolicy.Builder builder = new SnapPolicy.Builder(null)
+				.setMagneticRadiusInPixels(RADIUS)
+				.addAnchorInPixels(12.0f, 5.0f);
+		// Far anchors, which make the policy use eight buckets
+		for (int i = 1; i < 8; i++) {
+			builder.addAnchorInPixels(i * 100.0f, i * 100.0f);
+		}
+		SnapPolicy policy = builder.build();
+		// Points lie in the cell (0, 0), the anchor in the cell (1, 0)
+		assertEquals(0, policy.findAnchor(9.0f, 5.0f));
+		assertEquals(0, policy.findAnchor(2.0f, 5.0f));
+		assertEquals(SnapPolicy.NO_ANCHOR, policy.findAnchor(1.9f, 5.0f));
+	}
+
+	/**
+	 * Checks that the anchor is found across the cells with the negative indexes
+	 */
+	@Test
+	public void testAnchorAcrossOriginIsFound() {
+		SnapPolicy policy = new SnapPolicy.Builder(null)
+				.setMagneticRadiusInPixels(RADIUS)
+				.addAnchorInPixels(-3.0f, -3.0f)
+				.addAnchorInPixels(50.0f, 50.0f)
+				.build();
+		assertEquals(0, policy.findAnchor(3.0f, 3.0f));
+		assertEquals(1, policy.findAnchor(45.0f, 55.0f));
+	}
+
+	/**
+	 * Checks that the nearest anchor is found among the anchors within the radius
+	 */
+	@Test
+	public void testNearestAnchorIsFound() {
+		SnapPolicy policy = new SnapPolicy.Builder(null)
+				.setMagneticRadiusInPixels(RADIUS)
+				.addAnchorInPixels(25.0f, 20.0f)
+				.addAnchorInPixels(18.0f, 20.0f)
+				.addAnchorInPixels(20.0f, 27.0f)
+				.build();
+		assertEquals(1, policy.findAnchor(20.0f, 20.0f));
+		assertEquals(0, policy.findAnchor(24.0f, 20.0f));
+	}
+
+	/**
+	 * Checks that the found anchors match the brute-force search over all the anchors
+	 */
+	@Test
+	public void testFoundAnchorsMatchBruteForceSearch() {
+		Random random = new Random(42L);
+		SnapPolicy.Builder builder = new SnapPolicy.Builder(null).setMagneticRadiusInPixels(RADIUS);
+		for (int i = 0; i < 200; i++) {
+			builder.addAnchorInPixels(random.nextFloat() * 400.0f - 200.0f, random.nextFloat() * 400.0f - 200.0f);
+		}
+		SnapPolicy policy = builder.build();
+		for (int i = 0; i < 2000; i++) {
+			float x = random.nextFloat() * 440.0f - 220.0f;
+			float y = random.nextFloat() * 440.0f - 220.0f;
+			float expected = getNearestDistance(policy, x, y);
+			int anchor = policy.findAnchor(x, y);
+			if (expected > RADIUS * RADIUS) {
+				assertEquals(SnapPolicy.NO_ANCHOR, anchor);
+			} else {
+				assertTrue(anchor != SnapPolicy.NO_ANCHOR);
+				assertEquals(expected, getDistance(policy, anchor, x, y), DELTA);
+			}
+		}
+	}
+
+	/**
+	 * Checks that the policy without anchors finds none
+	 */
+	@Test
+	public void testNoAnchorsFound() {
+		SnapPolicy policy = new SnapPolicy.Builder(null).setMagneticRadiusInPixels(RADIUS).build();
+		assertEquals(SnapPolicy.NO_ANCHOR, policy.findAnchor(0.0f, 0.0f));
+	}
+
+	/**
+	 * Checks that the coordinates are snapped to the grid only within the magnetic radius
+	 */
+	@Test
+	public void testSnapToGrid() {
+		SnapPolicy grid = new SnapPolicy.Builder(null).setGridPitchInPixels(50.0f).build();
+		assertEquals(50.0f, grid.snapToGrid(74.0f), DELTA);
+		assertEquals(100.0f, grid.snapToGrid(76.0f), DELTA);
+		assertEquals(-50.0f, grid.snapToGrid(-60.0f), DELTA);
+
+		SnapPolicy magneticGrid = new SnapPolicy.Builder(null)
+				.setGridPitchInPixels(50.0f)
+				.setMagneticRadiusInPixels(RADIUS)
+				.build();
+		assertEquals(50.0f, magneticGrid.snapToGrid(60.0f), DELTA);
+		assertEquals(61.0f, magneticGrid.snapToGrid(61.0f), DELTA);
+
+		SnapPolicy none = new SnapPolicy.Builder(null).build();
+		assertEquals(61.0f, none.snapToGrid(61.0f), DELTA);
+	}
+
+	/**
+	 * Checks that the anchors can not be added without the magnetic radius
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testAnchorsWithoutRadiusAreRejected() {
+		new SnapPolicy.Builder(null).addAnchorInPixels(0.0f, 0.0f).build();
+	}
+
+	/**
+	 * Returns the squared distance from the point to the nearest anchor of the policy
+	 *
+	 * @param policy snapping policy
+	 * @param x X coordinate of the point in px
+	 * @param y Y coordinate of the point in px
+	 * @return squared distance to the nearest anchor
+	 */
+	private static float getNearestDistance(SnapPolicy policy, float x, float y) {
+		float nearest = Float.MAX_VALUE;
+		for (int i = 0; i < policy.getAnchorCount(); i++) {
+			nearest = Math.min(nearest, getDistance(policy, i, x, y));
+		}
+		return nearest;
+	}
+
+	/**
+	 * Returns the squared distance from the point to the anchor
+	 *
+	 * @param policy snapping policy
+	 * @param anchor index of the anchor
+	 * @param x X coordinate of the point in px
+	 * @param y Y coordinate of the point in px
+	 * @return squared distance to the anchor
+	 */
+	private static float getDistance(SnapPolicy policy, int anchor, float x, float y) {
+		float dx = policy.getAnchorX(anchor) - x;
+		float dy = policy.getAnchorY(anchor) - y;
+		return dx * dx + dy * dy;
+	}
+
+}
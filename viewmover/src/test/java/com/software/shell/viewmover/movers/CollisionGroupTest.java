@@ -0,0 +1,165 @@
+/*
+ * Copyright 2015 Shell Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * File created: 2026-10-18 23:58:06
+ */
+
+package com.software.shell.viewmover.movers;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests of the {@link CollisionGroup}
+ *
+ * @author shell
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class CollisionGroupTest {
+
+	/**
+	 * Size of the grid cell in px
+	 */
+	private static final int CELL_SIZE = 10;
+
+	/**
+	 * Size of the views in px
+	 */
+	private static final int VIEW_SIZE = 10;
+
+	/**
+	 * Allowed error of the calculated fractions
+	 */
+	private static final float DELTA = 1e-4f;
+
+	/**
+	 * Checks that a move is not limited when there are no other views in the group
+	 */
+	@Test
+	public void testMoveWithoutSiblingsIsNotLimited() {
+		CollisionGroup group = new CollisionGroup(CELL_SIZE);
+		int slot = group.add(0, 0, VIEW_SIZE, VIEW_SIZE);
+		assertEquals(1.0f, group.getAllowedFraction(slot, 0, 0, VIEW_SIZE, VIEW_SIZE, 100.0f, 100.0f), DELTA);
+	}
+
+	/**
+	 * Checks that a sweep stops at the sibling, which was added far enough to grow the grid
+	 */
+	@Test
+	public void testSweepTouchesSiblingAddedAfterResize() {
+		CollisionGroup group = new CollisionGroup(CELL_SIZE);
+		int slot = group.add(0, 0, VIEW_SIZE, VIEW_SIZE);
+		// Lies well outside of the single cell grid created by the first view
+		group.add(100, 30, 100 + VIEW_SIZE, 30 + VIEW_SIZE);
+		assertEquals(2, group.size());
+		// Reaches the left edge of the sibling after (100 - 10) / 200 of the move
+		float fraction = group.getAllowedFraction(slot, 0, 30, VIEW_SIZE, 30 + VIEW_SIZE, 200.0f, 0.0f);
+		assertEquals(0.45f, fraction, DELTA);
+		// Passes above the sibling
+		assertEquals(1.0f, group.getAllowedFraction(slot, 0, 0, VIEW_SIZE, VIEW_SIZE, 200.0f, 0.0f), DELTA);
+	}
+
+	/**
+	 * Checks that a diagonal sweep stops at the sibling, which lies in the cells added by
+	 * growing the grid in both directions
+	 */
+	@Test
+	public void testDiagonalSweepTouchesSiblingAfterResize() {
+		CollisionGroup group = new CollisionGroup(CELL_SIZE);
+		int slot = group.add(0, 0, VIEW_SIZE, VIEW_SIZE);
+		group.add(5, 5, 15, 15);
+		group.add(200, 200, 200 + VIEW_SIZE, 200 + VIEW_SIZE);
+		// Overlapped sibling is ignored, so the view can leave it
+		float fraction = group.getAllowedFraction(slot, 0, 0, VIEW_SIZE, VIEW_SIZE, 400.0f, 400.0f);
+		assertEquals(190.0f / 400.0f, fraction, DELTA);
+	}
+
+	/**
+	 * Checks that a sweep, which moves the view away from the sibling, is not limited
+	 */
+	@Test
+	public void testSweepAwayFromSiblingIsNotLimited() {
+		CollisionGroup group = new CollisionGroup(CELL_SIZE);
+		int slot = group.add(50, 0, 50 + VIEW_SIZE, VIEW_SIZE);
+		group.add(20, 0, 20 + VIEW_SIZE, VIEW_SIZE);
+		assertEquals(1.0f, group.getAllowedFraction(slot, 50, 0, 50 + VIEW_SIZE, VIEW_SIZE, 100.0f, 0.0f), DELTA);
+		assertEquals(0.4f, group.getAllowedFraction(slot, 50, 0, 50 + VIEW_SIZE, VIEW_SIZE, -50.0f, 0.0f), DELTA);
+	}
+
+	/**
+	 * Checks that the slot of the removed view is reused and that only the bounds of
+	 * the new view block the moves
+	 */
+	@Test
+	public void testSlotIsReusedAfterRemove() {
+		CollisionGroup group = new CollisionGroup(CELL_SIZE);
+		int slot = group.add(0, 0, VIEW_SIZE, VIEW_SIZE);
+		int removedSlot = group.add(50, 0, 50 + VIEW_SIZE, VIEW_SIZE);
+		group.remove(removedSlot);
+		assertEquals(1, group.size());
+		assertEquals(1.0f, group.getAllowedFraction(slot, 0, 0, VIEW_SIZE, VIEW_SIZE, 100.0f, 0.0f), DELTA);
+		assertFalse(group.intersects(slot, 50, 0, 50 + VIEW_SIZE, VIEW_SIZE));
+
+		int reusedSlot = group.add(30, 0, 30 + VIEW_SIZE, VIEW_SIZE);
+		assertEquals(removedSlot, reusedSlot);
+		assertEquals(2, group.size());
+		// Is stopped by the new view at 30, not by the removed one at 50
+		assertEquals(0.2f, group.getAllowedFraction(slot, 0, 0, VIEW_SIZE, VIEW_SIZE, 100.0f, 0.0f), DELTA);
+		assertTrue(group.intersects(slot, 35, 0, 35 + VIEW_SIZE, VIEW_SIZE));
+		assertFalse(group.intersects(slot, 50, 0, 50 + VIEW_SIZE, VIEW_SIZE));
+	}
+
+	/**
+	 * Checks that the slot reused after the grid has grown keeps the new bounds only
+	 */
+	@Test
+	public void testSlotIsReusedAfterRemoveAndResize() {
+		CollisionGroup group = new CollisionGroup(CELL_SIZE);
+		int slot = group.add(0, 0, VIEW_SIZE, VIEW_SIZE);
+		int removedSlot = group.add(20, 0, 20 + VIEW_SIZE, VIEW_SIZE);
+		group.remove(removedSlot);
+		int reusedSlot = group.add(300, 0, 300 + VIEW_SIZE, VIEW_SIZE);
+		assertEquals(removedSlot, reusedSlot);
+		assertEquals(290.0f / 400.0f,
+				group.getAllowedFraction(slot, 0, 0, VIEW_SIZE, VIEW_SIZE, 400.0f, 0.0f), DELTA);
+	}
+
+	/**
+	 * Checks that the updated bounds of the view replace its previous bounds
+	 */
+	@Test
+	public void testUpdateMovesViewToNewCells() {
+		CollisionGroup group = new CollisionGroup(CELL_SIZE);
+		int slot = group.add(0, 0, VIEW_SIZE, VIEW_SIZE);
+		int other = group.add(40, 0, 40 + VIEW_SIZE, VIEW_SIZE);
+		group.update(other, 80, 0, 80 + VIEW_SIZE, VIEW_SIZE);
+		assertFalse(group.intersects(slot, 40, 0, 40 + VIEW_SIZE, VIEW_SIZE));
+		assertTrue(group.intersects(slot, 85, 0, 85 + VIEW_SIZE, VIEW_SIZE));
+		assertEquals(0.7f, group.getAllowedFraction(slot, 0, 0, VIEW_SIZE, VIEW_SIZE, 100.0f, 0.0f), DELTA);
+	}
+
+	/**
+	 * Checks that the non-positive cell size is rejected
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testNonPositiveCellSizeIsRejected() {
+		new CollisionGroup(0);
+	}
+
+}